@@ -0,0 +1,64 @@
+package com.act.backend.benchmarks;
+
+import com.act.backend.dto.EventDTO;
+import com.act.backend.dto.StudentAttendanceDTO;
+import com.act.backend.dto.StudentWithEventsDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Response body serialisation of large DTO lists, with the ObjectMapper settings Spring MVC uses. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "5000"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private List<EventDTO> events;
+    private List<StudentWithEventsDTO> roster;
+    private List<StudentAttendanceDTO> attendance;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        events = new ArrayList<>(size);
+        LocalDateTime start = LocalDateTime.of(2026, 3, 14, 10, 0);
+        roster = new ArrayList<>(size);
+        attendance = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(new EventDTO((long) i, "Event " + i, "Benchmark event number " + i, "2026-03-14",
+                    "Hall " + (i % 12), "Faculty " + (i % 50), "faculty" + (i % 50) + "@bench.local", "Dept " + (i % 8),
+                    start.plusDays(i % 365), start.plusDays(i % 365).plusHours(2)));
+            roster.add(new StudentWithEventsDTO((long) i, "Student " + i, "student" + i + "@bench.local", "555-0100",
+                    "Dept " + (i % 8), i % 2 == 0 ? "F" : "M", List.of("Event 1", "Event 2", "Event 3", "Event 4", "Event 5")));
+            attendance.add(new StudentAttendanceDTO((long) i, "Student " + i, "student" + i + "@bench.local", "555-0100",
+                    "Dept " + (i % 8), i % 3 == 0 ? null : i % 3 == 1));
+        }
+    }
+
+    @Benchmark
+    public byte[] events() throws Exception {
+        return mapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] studentRoster() throws Exception {
+        return mapper.writeValueAsBytes(roster);
+    }
+
+    @Benchmark
+    public byte[] eventAttendance() throws Exception {
+        return mapper.writeValueAsBytes(attendance);
+    }
+}
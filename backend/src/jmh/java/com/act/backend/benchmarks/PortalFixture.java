@@ -0,0 +1,125 @@
+package com.act.backend.benchmarks;
+
+import com.act.backend.BackendApplication;
+import com.act.backend.models.Event;
+import com.act.backend.models.Faculty;
+import com.act.backend.models.Student;
+import com.act.backend.models.StudentEvent;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.FacultyRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import com.act.backend.services.EventSeatService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the backend (no web server unless asked for) against a private in-memory H2 database and
+ * seeds a realistic-sized data set. One fixture per benchmark trial; close() drops everything.
+ */
+final class PortalFixture implements AutoCloseable {
+
+    static final int FACULTIES = 50;
+    static final int EVENTS = 200;
+    static final int STUDENTS = 2000;
+    static final int REGISTRATIONS_PER_STUDENT = 5;
+
+    final ConfigurableApplicationContext context;
+    final List<Faculty> faculties = new ArrayList<>();
+    final List<Event> events = new ArrayList<>();
+    final List<Student> students = new ArrayList<>();
+
+    PortalFixture(String name) {
+        this(name, WebApplicationType.NONE);
+    }
+
+    /** With {@code SERVLET}, Tomcat listens on a random port; see {@link #baseUrl()}. */
+    PortalFixture(String name, WebApplicationType web, String... args) {
+        List<String> all = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--portal.mail.outbox.enabled=false",
+                "--server.port=0"));
+        all.addAll(List.of(args));
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(web)
+                .logStartupInfo(false)
+                .run(all.toArray(String[]::new));
+        seed();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed() {
+        FacultyRepository facultyRepo = bean(FacultyRepository.class);
+        EventRepository eventRepo = bean(EventRepository.class);
+        StudentRepository studentRepo = bean(StudentRepository.class);
+        StudentEventRepository studentEventRepo = bean(StudentEventRepository.class);
+        EventSeatService seatService = bean(EventSeatService.class);
+
+        for (int i = 0; i < FACULTIES; i++) {
+            Faculty f = new Faculty();
+            f.setName("Faculty " + i);
+            f.setEmail("faculty" + i + "@bench.local");
+            f.setDepartment("Dept " + (i % 8));
+            f.setApproved(true);
+            faculties.add(f);
+        }
+        facultyRepo.saveAll(faculties);
+
+        for (int i = 0; i < EVENTS; i++) {
+            Event e = new Event();
+            e.setName("Event " + i);
+            e.setDescription("Benchmark event number " + i);
+            e.setStartTime(LocalDateTime.of(2026, 3, 1 + i % 28, 10, 0));
+            e.setDate(e.getStartTime().toLocalDate().toString());
+            e.setVenue("Hall " + (i % 12));
+            e.setFaculty(faculties.get(i % FACULTIES));
+            events.add(e);
+        }
+        eventRepo.saveAll(events);
+
+        for (int i = 0; i < STUDENTS; i++) {
+            Student s = new Student();
+            s.setName("Student " + i);
+            s.setEmail("student" + i + "@bench.local");
+            s.setDepartment("Dept " + (i % 8));
+            s.setPassword("secret");
+            students.add(s);
+        }
+        studentRepo.saveAll(students);
+
+        List<StudentEvent> registrations = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            for (int j = 0; j < REGISTRATIONS_PER_STUDENT; j++) {
+                StudentEvent se = new StudentEvent();
+                se.setStudent(students.get(i));
+                se.setEvent(events.get((i + j * 37) % EVENTS));
+                registrations.add(se);
+            }
+        }
+        studentEventRepo.saveAll(registrations);
+        seatService.reconcile();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,96 @@
+package com.act.backend.benchmarks;
+
+import com.act.backend.dto.AttendanceMark;
+import com.act.backend.dto.AttendanceMarkResult;
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.models.Event;
+import com.act.backend.models.Faculty;
+import com.act.backend.models.StudentEvent;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.services.AdminService;
+import com.act.backend.services.FacultyService;
+import com.act.backend.services.StudentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write paths: a register + unregister round trip (seat claim and release included) and
+ * single / bulk attendance marking, against the embedded database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistrationBenchmark {
+
+    private PortalFixture fixture;
+    private StudentService studentService;
+    private FacultyService facultyService;
+    private Event openEvent;
+    private Event markedEvent;
+    private Faculty faculty;
+    private Long markedStudentId;
+    private List<AttendanceMark> bulkMarks;
+    private final AtomicInteger nextStudent = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class StudentSession {
+        MockHttpSession session;
+
+        @Setup(Level.Trial)
+        public void login(RegistrationBenchmark bench) {
+            // each thread registers as its own student
+            int index = bench.nextStudent.getAndIncrement() % PortalFixture.STUDENTS;
+            session = new MockHttpSession();
+            SessionPrincipal.of(bench.fixture.students.get(index)).storeIn(session);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new PortalFixture("registration");
+        studentService = fixture.bean(StudentService.class);
+        facultyService = fixture.bean(FacultyService.class);
+
+        // a fresh event nobody is registered for, so every thread's student can join it
+        openEvent = fixture.bean(AdminService.class).addEvent(Map.of("name", "Open day"));
+
+        markedEvent = fixture.events.get(0);
+        faculty = facultyService.getFaculty(markedEvent.getFaculty().getId());
+        bulkMarks = new ArrayList<>();
+        for (StudentEvent se : fixture.bean(StudentEventRepository.class).findByEvent(markedEvent)) {
+            if (markedStudentId == null) markedStudentId = se.getStudent().getId();
+            bulkMarks.add(new AttendanceMark(se.getStudent().getId(), bulkMarks.size() % 2 == 0));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public String registerAndUnregister(StudentSession s) {
+        studentService.registerEvent(s.session, openEvent.getId());
+        return studentService.unregisterEvent(s.session, openEvent.getId());
+    }
+
+    @Benchmark
+    public Faculty markAttendance() {
+        facultyService.markAttendance(faculty, markedEvent.getId(), markedStudentId, true);
+        return faculty;
+    }
+
+    @Benchmark
+    public List<AttendanceMarkResult> markAttendanceBulk() {
+        return facultyService.markAttendanceBulk(faculty, markedEvent.getId(), bulkMarks);
+    }
+}
@@ -0,0 +1,106 @@
+package com.act.backend.benchmarks;
+
+import com.act.backend.models.Admin;
+import com.act.backend.repositories.AdminRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a cheap call (GET /api/students/profile) over real HTTP while admins hammer the
+ * unpaged student roster in the background.
+ * <p>
+ * {@code platform}: a small Tomcat pool and no bulkheads, so roster calls hold most threads and
+ * profile calls queue behind them. {@code virtual}: a virtual thread per request with the
+ * bulkheads on, so roster calls only compete for the REPORTING permits (the rest get 503 and back
+ * off) and profile calls are served straight away. Compare the p99 of the two; the difference needs
+ * a few cores to show, since on one core the roster work starves everything either way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class RequestModeBenchmark {
+
+    private static final int BACKGROUND_CLIENTS = 32;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    private PortalFixture fixture;
+    private HttpClient student;
+    private ExecutorService background;
+    private final List<Future<?>> load = new ArrayList<>();
+    private volatile boolean running;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String[] args = mode.equals("virtual")
+                ? new String[]{"--spring.threads.virtual.enabled=true", "--portal.bulkhead.enabled=true"}
+                : new String[]{"--server.tomcat.threads.max=16", "--portal.bulkhead.enabled=false"};
+        fixture = new PortalFixture("requests-" + mode, WebApplicationType.SERVLET, args);
+        fixture.bean(AdminRepository.class).save(new Admin(null, "bench", "admin@bench.local", "secret"));
+
+        student = login("/api/students/login", fixture.students.get(0).getEmail());
+        running = true;
+        background = Executors.newFixedThreadPool(BACKGROUND_CLIENTS);
+        for (int i = 0; i < BACKGROUND_CLIENTS; i++) {
+            HttpClient admin = login("/api/admin/login", "admin@bench.local");
+            load.add(background.submit(() -> {
+                while (running) {
+                    try {
+                        HttpResponse<Void> r = admin.send(get("/api/admin/students"), HttpResponse.BodyHandlers.discarding());
+                        if (r.statusCode() == 503) Thread.sleep(1000);   // as a well-behaved client honouring Retry-After
+                    } catch (IOException e) {
+                        // keep the pressure on
+                    }
+                }
+                return null;
+            }));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        running = false;
+        for (Future<?> f : load) f.get(30, TimeUnit.SECONDS);
+        background.shutdown();
+        fixture.close();
+    }
+
+    @Benchmark
+    public int profile() throws Exception {
+        HttpResponse<String> response = student.send(get("/api/students/profile"), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) throw new IllegalStateException("Profile returned " + response.statusCode());
+        return response.body().length();
+    }
+
+    private HttpClient login(String path, String email) throws Exception {
+        HttpClient client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(fixture.baseUrl() + path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + email + "\",\"password\":\"secret\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) throw new IllegalStateException("Login to " + path + " returned " + response.statusCode());
+        return client;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(fixture.baseUrl() + path)).GET().build();
+    }
+}
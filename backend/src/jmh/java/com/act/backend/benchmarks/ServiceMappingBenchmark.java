@@ -0,0 +1,55 @@
+package com.act.backend.benchmarks;
+
+import com.act.backend.dto.EventDTO;
+import com.act.backend.dto.FacultyDTO;
+import com.act.backend.dto.StudentWithEventsDTO;
+import com.act.backend.services.AdminService;
+import com.act.backend.services.StudentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping of the list endpoints, including the queries behind them
+ * (Event and Faculty reads go through the second-level cache as they do in production).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceMappingBenchmark {
+
+    private PortalFixture fixture;
+    private StudentService studentService;
+    private AdminService adminService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new PortalFixture("mapping");
+        studentService = fixture.bean(StudentService.class);
+        adminService = fixture.bean(AdminService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public List<EventDTO> studentAllEvents() {
+        return studentService.getAllEvents();
+    }
+
+    @Benchmark
+    public List<FacultyDTO> adminAllFaculties() {
+        return adminService.getAllFaculties();
+    }
+
+    @Benchmark
+    public List<StudentWithEventsDTO> adminStudentRoster() {
+        return adminService.getAllStudentsWithEvents();
+    }
+}
@@ -2,8 +2,12 @@ package com.act.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.session.SessionAutoConfiguration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// Sessions stay in the servlet container unless JdbcSessionConfig switches them to the database
+@SpringBootApplication(exclude = SessionAutoConfiguration.class)
+@EnableScheduling
 public class BackendApplication {
 
 	public static void main(String[] args) {
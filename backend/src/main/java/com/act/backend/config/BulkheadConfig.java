@@ -0,0 +1,83 @@
+package com.act.backend.config;
+
+import com.act.backend.services.Bulkheads;
+import com.act.backend.services.Bulkheads.Workload;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Runs each API call inside the {@link Bulkheads} bulkhead of its workload class, so slow roster
+ * reports or a registration rush queue among themselves while cheap calls such as
+ * /api/students/profile (which belong to no class) go straight through. A call that cannot get a
+ * permit in time is answered 503 with Retry-After.
+ * <p>
+ * This matters most with {@code spring.threads.virtual.enabled=true}, where Tomcat serves every
+ * request on its own virtual thread and its thread pool no longer caps concurrency; the bulkheads
+ * become the cap. Streaming responses (CSV exports) keep their permit until the stream finishes;
+ * live feeds are long-lived and idle, and take none.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BulkheadConfig implements WebMvcConfigurer {
+
+    static final String PERMIT_ATTRIBUTE = BulkheadConfig.class.getName() + ".permit";
+
+    private static final Pattern AUTH = Pattern.compile(".*/(login|logout|signup|register|set-password|update-password|profile/password)");
+    private static final Pattern REGISTRATION = Pattern.compile("/api/students/((un)?register-event/.*|check-in)");
+    private static final Pattern ATTENDANCE = Pattern.compile("/api/faculty/events/\\{eventId}/attendance(/bulk)?");
+    private static final Pattern CATALOG = Pattern.compile("/api/students/(events|registered-events)(/.*)?|/api/faculty/events(/\\{eventId}/students)?");
+
+    private final Bulkheads bulkheads;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AsyncHandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+                if (request.getAttribute(PERMIT_ATTRIBUTE) != null) return true;  // async re-dispatch, already admitted
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                Workload workload = pattern == null ? null : classify(request.getMethod(), pattern.toString());
+                if (workload == null) return true;
+                try {
+                    request.setAttribute(PERMIT_ATTRIBUTE, bulkheads.acquire(workload));
+                    return true;
+                } catch (Bulkheads.Full e) {
+                    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                    response.setHeader("Retry-After", "1");
+                    response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+                    response.getWriter().write(e.getMessage());
+                    return false;
+                }
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+                // Not called when async handling starts; then it runs after the async dispatch instead
+                if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Bulkheads.Permit permit) permit.close();
+            }
+        }).addPathPatterns("/api/**");
+    }
+
+    /** Workload class of an endpoint, or null for calls that are not limited. */
+    static Workload classify(String method, String pattern) {
+        if (pattern.endsWith("/feed") || "OPTIONS".equals(method)) return null;
+        if (AUTH.matcher(pattern).matches()) return Workload.AUTH;
+        if (REGISTRATION.matcher(pattern).matches()) return Workload.REGISTRATION;
+        if (ATTENDANCE.matcher(pattern).matches() && "POST".equals(method)) return Workload.ATTENDANCE;
+        if (pattern.endsWith(".csv") || pattern.startsWith("/api/admin/import/")) return Workload.REPORTING;
+        if (pattern.startsWith("/api/admin/") && "GET".equals(method) && !pattern.equals("/api/admin/me")) return Workload.REPORTING;
+        if (CATALOG.matcher(pattern).matches() && "GET".equals(method)) return Workload.CATALOG;
+        return null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.act.backend.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+/**
+ * Second-level entity and query cache for the read-mostly reference data (Event, Faculty).
+ * <p>
+ * Regions live in an in-process Caffeine JCache manager; sizes and TTLs are in application.conf.
+ * Entity writes go through Hibernate and keep the regions current, and bulk JPQL statements
+ * invalidate the regions of the tables they touch. Hit/miss/put counts (Hibernate statistics) and
+ * evictions (JCache statistics) are bound to the Micrometer registry behind /actuator/prometheus.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        return provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return props -> {
+            props.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            props.put(AvailableSettings.USE_QUERY_CACHE, true);
+            props.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            props.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Event.faculty changes must drop the cached inverse Faculty.eventsAssigned collection
+            props.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            props.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheMetrics(EntityManagerFactory emf, CacheManager hibernateCacheManager) {
+        return registry -> {
+            HibernateMetrics.monitor(registry, emf.unwrap(SessionFactory.class), "entityManagerFactory");
+            for (String name : hibernateCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(name));
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.act.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.jdbc.init.PlatformPlaceholderDatabaseDriverResolver;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+
+import javax.sql.DataSource;
+
+/**
+ * Shared session store for running several backend nodes without sticky sessions.
+ * <p>
+ * With {@code portal.session.store=jdbc} sessions live in the SPRING_SESSION tables of the main
+ * datasource instead of the servlet container. Only {@link com.act.backend.dto.SessionPrincipal}s
+ * and, with replica routing on, the read-your-writes deadline (a Long) are stored, so a session
+ * row stays a few hundred bytes. The tables are created automatically on
+ * embedded databases; for MySQL run Spring Session's schema-mysql.sql once, or start one node with
+ * {@code portal.session.jdbc.initialize-schema=always}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "portal.session.store", havingValue = "jdbc")
+@EnableJdbcHttpSession(maxInactiveIntervalInSeconds = 1800)
+public class JdbcSessionConfig {
+
+    private static final String SCHEMA = "classpath:org/springframework/session/jdbc/schema-@@platform@@.sql";
+
+    @Bean
+    public DataSourceScriptDatabaseInitializer sessionSchemaInitializer(
+            DataSource dataSource,
+            @Value("${portal.session.jdbc.initialize-schema:embedded}") DatabaseInitializationMode mode) {
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setSchemaLocations(new PlatformPlaceholderDatabaseDriverResolver().resolveAll(dataSource, SCHEMA));
+        settings.setMode(mode);
+        return new DataSourceScriptDatabaseInitializer(dataSource, settings);
+    }
+}
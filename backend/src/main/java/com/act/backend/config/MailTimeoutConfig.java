@@ -0,0 +1,40 @@
+package com.act.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * SMTP connect, read and write timeouts for the mail sender.
+ * <p>
+ * JavaMail waits forever by default. A hung relay connection would then hold an outbox sender
+ * thread indefinitely, and once the row's lease ran out another sender would deliver it again.
+ * {@code portal.mail.smtp-timeout} (default 30s) applies to all three and must stay below
+ * {@code portal.mail.outbox.lease}. Values set explicitly under
+ * {@code spring.mail.properties.mail.smtp.*} win.
+ */
+@Configuration
+public class MailTimeoutConfig {
+
+    @Bean
+    public static BeanPostProcessor smtpTimeouts(@Value("${portal.mail.smtp-timeout:30s}") Duration timeout) {
+        String millis = Long.toString(timeout.toMillis());
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof JavaMailSenderImpl sender) {
+                    Properties props = sender.getJavaMailProperties();
+                    props.putIfAbsent("mail.smtp.connectiontimeout", millis);
+                    props.putIfAbsent("mail.smtp.timeout", millis);
+                    props.putIfAbsent("mail.smtp.writetimeout", millis);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package com.act.backend.config;
+
+import com.act.backend.services.PortalMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+/**
+ * Read-replica routing, switched on by setting {@code portal.datasource.replica.url}.
+ * <p>
+ * {@code spring.datasource.*} becomes the primary pool and {@code portal.datasource.replica.*}
+ * (url, username, password, and Hikari settings under {@code .hikari}) the replica pool. Service
+ * methods marked {@code @Transactional(readOnly = true)} (the catalog, rosters and attendance
+ * lookups) read from the replica. Repository calls made outside such a method, read-modify-write
+ * service methods and background work go to the primary, and so do a session's reads for
+ * {@code portal.datasource.replica.read-your-writes} (default 5s) after it commits a write.
+ * <p>
+ * Replica-routed reads bypass the second-level and query caches (see {@link ReplicaCacheGuard}).
+ * <p>
+ * Both pools publish hikaricp.* meters tagged pool=primary / pool=replica. portal.datasource.routed
+ * counts connections by target.
+ */
+@Configuration
+@ConditionalOnProperty(name = "portal.datasource.replica.url")
+public class ReadReplicaConfig implements WebMvcConfigurer {
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadReplicaConfig(@Value("${portal.datasource.replica.read-your-writes:5s}") Duration window) {
+        this.readYourWrites = new ReadYourWrites(window);
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry registry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName("primary");
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return pool;
+    }
+
+    @Bean
+    @ConfigurationProperties("portal.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment env, MeterRegistry registry) {
+        HikariDataSource pool = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(env.getRequiredProperty("portal.datasource.replica.url"))
+                .username(env.getProperty("portal.datasource.replica.username", properties.determineUsername()))
+                .password(env.getProperty("portal.datasource.replica.password", properties.determinePassword()))
+                .build();
+        pool.setPoolName("replica");
+        pool.setReadOnly(true);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return pool;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 PortalMetrics metrics) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, readYourWrites, metrics));
+    }
+
+    // Marks read-only transactional methods of @Service beans for ReplicaRoutingDataSource.
+    // Infrastructure role so the transaction auto-proxy creator applies it alongside its own advice.
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceReads() {
+        TransactionAttributeSource transactions = new AnnotationTransactionAttributeSource();
+        StaticMethodMatcherPointcut readOnlyServiceMethods = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                if (!AnnotatedElementUtils.hasAnnotation(targetClass, Service.class)) return false;
+                TransactionAttribute tx = transactions.getTransactionAttribute(method, targetClass);
+                return tx != null && tx.isReadOnly();
+            }
+        };
+        DefaultPointcutAdvisor advisor =
+                new DefaultPointcutAdvisor(readOnlyServiceMethods, (MethodInterceptor) ReplicaRoutingDataSource::serviceRead);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);   // outside the transaction advice, so ReplicaCacheGuard sees the mark
+        return advisor;
+    }
+
+    // Boot adds TransactionExecutionListener beans to the JPA transaction manager
+    @Bean
+    public ReadYourWrites readYourWrites() {
+        return readYourWrites;
+    }
+
+    @Bean
+    public ReplicaCacheGuard replicaCacheGuard(EntityManagerFactory emf) {
+        return new ReplicaCacheGuard(emf, readYourWrites);
+    }
+
+    // Hibernate would otherwise hold one connection for the whole open-in-view session, and every
+    // transaction in a request would reuse whichever pool the first one was routed to
+    @Bean
+    public HibernatePropertiesCustomizer connectionPerTransactionCustomizer() {
+        return props -> props.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWrites).addPathPatterns("/api/**");
+    }
+}
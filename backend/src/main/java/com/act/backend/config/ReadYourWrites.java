@@ -0,0 +1,66 @@
+package com.act.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Keeps a session's reads on the primary for a while after it commits a write, so nobody sees the
+ * replica undo their own change while it catches up.
+ * <p>
+ * A committed read-write transaction on a request thread pins the request until now plus the
+ * window. The deadline is stored in the HTTP session when the request completes and copied back
+ * into the request when the next one starts, so routing never has to touch the session store.
+ * Background work (schedulers, the outbox) has no session and is never pinned.
+ */
+class ReadYourWrites implements HandlerInterceptor, TransactionExecutionListener {
+
+    static final String PINNED_UNTIL = ReadYourWrites.class.getName() + ".pinnedUntil";
+    private static final String WROTE = ReadYourWrites.class.getName() + ".wrote";
+
+    private final long windowMillis;
+
+    ReadYourWrites(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    boolean pinned() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return request != null
+                && request.getAttribute(PINNED_UNTIL, RequestAttributes.SCOPE_REQUEST) instanceof Long until
+                && until > System.currentTimeMillis();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || windowMillis <= 0) return;
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) return;
+        request.setAttribute(PINNED_UNTIL, System.currentTimeMillis() + windowMillis, RequestAttributes.SCOPE_REQUEST);
+        request.setAttribute(WROTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        HttpSession session = request.getSession(false);
+        if (session != null && session.getAttribute(PINNED_UNTIL) instanceof Long until) {
+            request.setAttribute(PINNED_UNTIL, until);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, @Nullable Exception ex) {
+        if (request.getAttribute(WROTE) == null) return;
+        HttpSession session = request.getSession(false);  // anonymous writes (signup) have nothing to pin
+        if (session != null) session.setAttribute(PINNED_UNTIL, request.getAttribute(PINNED_UNTIL));
+    }
+}
@@ -0,0 +1,79 @@
+package com.act.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Removes duplicate (student_id, event_id) registrations before Hibernate builds the schema.
+ * <p>
+ * Registration relies on the uk_student_event unique key to reject duplicates, and schema update
+ * can only add that key to a table without them; otherwise it logs the failed ALTER and carries on
+ * without the key. So this runs ahead of the EntityManagerFactory and keeps the oldest row of each
+ * pair. Attendance marks are written to every row of a pair, so nothing is lost. Seat counters are
+ * recounted from student_event at startup anyway (EventSeatService.reconcile).
+ */
+@Slf4j
+@Configuration
+public class RegistrationDeduplicationConfig {
+
+    static final String DELETE_DUPLICATES =
+            "DELETE FROM student_event WHERE id IN (SELECT id FROM (" +
+            "SELECT se.id FROM student_event se JOIN student_event keep " +
+            "ON keep.student_id = se.student_id AND keep.event_id = se.event_id AND keep.id < se.id) dup)";
+
+    @Bean
+    public RegistrationDeduplication registrationDeduplication(DataSource dataSource) {
+        return new RegistrationDeduplication(dataSource);
+    }
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor deduplicateBeforeSchemaUpdate() {
+        return new EntityManagerFactoryDependsOnPostProcessor("registrationDeduplication");
+    }
+
+    public static class RegistrationDeduplication implements InitializingBean {
+
+        private final DataSource dataSource;
+
+        RegistrationDeduplication(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public void afterPropertiesSet() {
+            run();
+        }
+
+        /** Returns how many duplicate rows were removed; 0 on a database without the table yet. */
+        int run() {
+            if (!tableExists()) return 0;
+            int removed = new JdbcTemplate(dataSource).update(DELETE_DUPLICATES);
+            if (removed > 0) log.warn("Removed {} duplicate student_event registrations", removed);
+            return removed;
+        }
+
+        private boolean tableExists() {
+            try (Connection con = dataSource.getConnection()) {
+                DatabaseMetaData meta = con.getMetaData();
+                for (String name : new String[]{"student_event", "STUDENT_EVENT"}) {
+                    try (ResultSet tables = meta.getTables(con.getCatalog(), null, name, new String[]{"TABLE"})) {
+                        if (tables.next()) return true;
+                    }
+                }
+                return false;
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not inspect the schema", e);
+            }
+        }
+    }
+}
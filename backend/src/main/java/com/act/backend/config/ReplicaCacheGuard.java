@@ -0,0 +1,49 @@
+package com.act.backend.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps transactions routed to the replica out of the second-level and query caches. A row the
+ * replica has not caught up with would otherwise be cached after the write that invalidated it,
+ * and served to every session, the writer's included, until its region expires.
+ * <p>
+ * The session bypasses the caches entirely (CacheMode.IGNORE): under CacheMode.GET Hibernate 6.6
+ * still stores query results. The mode is switched when the transaction begins, before any query
+ * runs, and put back when it completes, since an open-in-view session outlives the transaction.
+ */
+class ReplicaCacheGuard implements TransactionExecutionListener {
+
+    private final EntityManagerFactory emf;
+    private final ReadYourWrites readYourWrites;
+
+    ReplicaCacheGuard(EntityManagerFactory emf, ReadYourWrites readYourWrites) {
+        this.emf = emf;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure != null || !ReplicaRoutingDataSource.readsReplica(transaction.isReadOnly(), readYourWrites)) return;
+        EntityManager em = EntityManagerFactoryUtils.getTransactionalEntityManager(emf);
+        if (em == null || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        Session session = em.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                session.setCacheMode(previous);
+            }
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.act.backend.config;
+
+import com.act.backend.services.PortalMetrics;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Hands out replica connections to read-only transactions started by a read-only service method
+ * and primary connections to everything else, including read-only work from a session that is
+ * inside its {@link ReadYourWrites} window. Spring Data runs each repository call in a read-only
+ * transaction of its own, so the flag alone would also send the lookup of a read-modify-write or
+ * the outbox sender's reload to the replica; hence the service-level marker.
+ * Sits behind a LazyConnectionDataSourceProxy, so the choice is made at the first statement, once
+ * the transaction's read-only flag is set. {@link ReplicaCacheGuard} makes the same choice when
+ * the transaction begins.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    // Set while a read-only @Service method runs; see ReadReplicaConfig.serviceReads
+    private static final ThreadLocal<Boolean> SERVICE_READ = new ThreadLocal<>();
+
+    private final ReadYourWrites readYourWrites;
+    private final PortalMetrics metrics;
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWrites readYourWrites, PortalMetrics metrics) {
+        this.readYourWrites = readYourWrites;
+        this.metrics = metrics;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Target target = readsReplica(TransactionSynchronizationManager.isCurrentTransactionReadOnly(), readYourWrites)
+                ? Target.REPLICA : Target.PRIMARY;
+        metrics.datasourceRouted(target.tag());
+        return target;
+    }
+
+    static boolean readsReplica(boolean readOnlyTransaction, ReadYourWrites readYourWrites) {
+        return readOnlyTransaction && SERVICE_READ.get() != null && !readYourWrites.pinned();
+    }
+
+    static Object serviceRead(MethodInvocation invocation) throws Throwable {
+        if (SERVICE_READ.get() != null) return invocation.proceed();
+        SERVICE_READ.set(Boolean.TRUE);
+        try {
+            return invocation.proceed();
+        } finally {
+            SERVICE_READ.remove();
+        }
+    }
+}
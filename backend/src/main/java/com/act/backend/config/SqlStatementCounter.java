@@ -0,0 +1,58 @@
+package com.act.backend.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * Installed as the session factory's StatementInspector. Callers open a {@link Scope}, run work
+ * and read {@link Scope#count()}; scopes nest, and every statement counts towards all scopes open
+ * on the thread. Statements issued outside Hibernate (JdbcTemplate) are not seen.
+ */
+public final class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Deque<Scope>> ACTIVE = new ThreadLocal<>();
+
+    public static Scope open() {
+        Deque<Scope> scopes = ACTIVE.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            ACTIVE.set(scopes);
+        }
+        Scope scope = new Scope();
+        scopes.push(scope);
+        return scope;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Deque<Scope> scopes = ACTIVE.get();
+        if (scopes != null) {
+            for (Scope scope : scopes) scope.count++;
+        }
+        return sql;
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private int count;
+
+        private Scope() {
+        }
+
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            Deque<Scope> scopes = ACTIVE.get();
+            if (scopes == null) return;
+            scopes.remove(this);
+            if (scopes.isEmpty()) ACTIVE.remove();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.act.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Per-request SQL statement counts, to catch N+1 patterns before they reach production.
+ * <p>
+ * Every request is wrapped in a {@link SqlStatementCounter} scope and its count is recorded in the
+ * {@code portal.sql.statements} distribution summary, tagged with the matched endpoint pattern, so
+ * /actuator/prometheus shows statements per request per endpoint. Requests above
+ * {@code portal.sql.statement-threshold} (0 disables the check) are logged, or, with
+ * {@code portal.sql.statement-threshold-mode=fail} as the test suite uses, fail with an exception.
+ */
+@Slf4j
+@Configuration
+public class SqlStatementMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return props -> props.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Bean
+    public OncePerRequestFilter sqlStatementCountFilter(
+            MeterRegistry registry,
+            @Value("${portal.sql.statement-threshold:25}") int threshold,
+            @Value("${portal.sql.statement-threshold-mode:log}") String mode) {
+        boolean fail = "fail".equalsIgnoreCase(mode);
+
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                int count;
+                try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+                    chain.doFilter(request, response);
+                    count = scope.count();
+                }
+
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+                DistributionSummary.builder("portal.sql.statements")
+                        .description("SQL statements issued per HTTP request")
+                        .baseUnit("statements")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri)
+                        .register(registry)
+                        .record(count);
+
+                if (threshold > 0 && count > threshold) {
+                    Counter.builder("portal.sql.statement.threshold.exceeded")
+                            .tag("method", request.getMethod())
+                            .tag("uri", uri)
+                            .register(registry)
+                            .increment();
+                    String message = request.getMethod() + " " + uri + " issued " + count
+                            + " SQL statements (threshold " + threshold + ")";
+                    if (fail) throw new IllegalStateException(message);
+                    log.warn("{}; likely an N+1 query", message);
+                }
+            }
+        };
+    }
+}
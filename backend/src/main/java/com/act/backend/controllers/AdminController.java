@@ -3,13 +3,21 @@ package com.act.backend.controllers;
 import com.act.backend.dto.*;
 import com.act.backend.models.*;
 import com.act.backend.services.AdminService;
+import com.act.backend.services.BulkImportService;
+import com.act.backend.services.CsvExportService;
+import com.act.backend.services.PortalException;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -19,13 +27,23 @@ import java.util.Map;
 public class AdminController {
     @Autowired
     private AdminService adminService;
+    @Autowired
+    private BulkImportService importService;
+    @Autowired
+    private CsvExportService exportService;
+
+    // List endpoints return a keyset page ({items, next}) when any paging parameter is given,
+    // otherwise the full array the dashboard pages still expect
+    private static boolean isPaged(Integer limit, String cursor, String sort) {
+        return limit != null || cursor != null || sort != null;
+    }
 
     // ------------------- LOGIN / LOGOUT -------------------
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody LoginRequest req, HttpSession session) {
         var adminOpt = adminService.authenticate(req.getEmail(), req.getPassword());
         if (adminOpt.isPresent()) {
-            session.setAttribute("admin", adminOpt.get());
+            SessionPrincipal.of(adminOpt.get()).storeIn(session);
             return ResponseEntity.ok(adminOpt.get());
         }
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid credentials");
@@ -53,7 +71,9 @@ public class AdminController {
         try {
             adminService.checkAdminSession(session);
             Admin admin = adminService.getAdminFromSession(session);
-            return ResponseEntity.ok(adminService.updateProfile(admin, updated));
+            Admin saved = adminService.updateProfile(admin, updated);
+            SessionPrincipal.of(saved).storeIn(session);
+            return ResponseEntity.ok(saved);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
         }
@@ -74,21 +94,58 @@ public class AdminController {
 
     // ------------------- FACULTY -------------------
     @GetMapping("/unapproved-faculties")
-    public ResponseEntity<?> getUnapprovedFaculties(HttpSession session) {
+    public ResponseEntity<?> getUnapprovedFaculties(HttpSession session,
+                                                    @RequestParam(required = false) Integer limit,
+                                                    @RequestParam(required = false) String cursor) {
         try {
             adminService.checkAdminSession(session);
-            List<Faculty> list = adminService.getUnapprovedFaculties();
+            if (isPaged(limit, cursor, null)) return ResponseEntity.ok(adminService.getUnapprovedFacultiesPage(cursor, limit));
+            List<FacultyDTO> list = adminService.getUnapprovedFaculties();
             return ResponseEntity.ok(list);
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+
+    // Badge count for the navbar
+    @GetMapping("/unapproved-faculties/count")
+    public ResponseEntity<?> countUnapprovedFaculties(HttpSession session) {
+        try {
+            adminService.checkAdminSession(session);
+            return ResponseEntity.ok(adminService.countUnapprovedFaculties());
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
         }
     }
 
     @GetMapping("/faculties")
-    public ResponseEntity<?> getAllFaculties(HttpSession session) {
+    public ResponseEntity<?> getAllFaculties(HttpSession session,
+                                             @RequestParam(required = false) Integer limit,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) String sort) {
         try {
             adminService.checkAdminSession(session);
+            if (isPaged(limit, cursor, sort)) return ResponseEntity.ok(adminService.getFacultiesPage(cursor, limit, sort));
             return ResponseEntity.ok(adminService.getAllFaculties());
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+
+    // Typeahead over name, e-mail and department; top matches only
+    @GetMapping("/faculties/search")
+    public ResponseEntity<?> searchFaculties(HttpSession session,
+                                             @RequestParam("q") String query,
+                                             @RequestParam(required = false) Integer limit) {
+        try {
+            adminService.checkAdminSession(session);
+            return ResponseEntity.ok(adminService.searchFaculties(query, limit));
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
         }
@@ -104,6 +161,16 @@ public class AdminController {
         }
     }
 
+    @PutMapping("/approve-faculties")
+    public ResponseEntity<?> approveFaculties(HttpSession session, @RequestBody List<Long> ids) {
+        try {
+            adminService.checkAdminSession(session);
+            return ResponseEntity.ok(adminService.approveFaculties(ids));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @PutMapping("/reject-faculty/{id}")
     public ResponseEntity<?> rejectFaculty(HttpSession session, @PathVariable Long id, @RequestParam String reason) {
         try {
@@ -136,12 +203,97 @@ public class AdminController {
         }
     }
 
+    // Moves every event of one faculty member to another in a single update
+    @PutMapping("/faculties/{facultyId}/reassign/{newFacultyId}")
+    public ResponseEntity<?> reassignEvents(HttpSession session, @PathVariable Long facultyId, @PathVariable Long newFacultyId) {
+        try {
+            adminService.checkAdminSession(session);
+            return ResponseEntity.ok(adminService.reassignEvents(facultyId, newFacultyId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    // ------------------- BULK IMPORT -------------------
+    // The CSV is the raw request body (Content-Type: text/csv) and is read as it arrives
+    @PostMapping(value = "/import/students", consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<?> importStudents(HttpSession session, HttpServletRequest request) {
+        try {
+            adminService.checkAdminSession(session);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+        try (InputStream csv = request.getInputStream()) {
+            return ResponseEntity.ok(importService.importStudents(csv));
+        } catch (RuntimeException | IOException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping(value = "/import/faculties", consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<?> importFaculties(HttpSession session, HttpServletRequest request) {
+        try {
+            adminService.checkAdminSession(session);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+        try (InputStream csv = request.getInputStream()) {
+            return ResponseEntity.ok(importService.importFaculties(csv));
+        } catch (RuntimeException | IOException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // ------------------- CSV EXPORT -------------------
+    // Streamed straight from the database cursor; see CsvExportService
+    @GetMapping("/events/{eventId}/attendance.csv")
+    public ResponseEntity<StreamingResponseBody> exportEventAttendance(HttpSession session, @PathVariable Long eventId) {
+        try {
+            adminService.checkAdminSession(session);
+        } catch (RuntimeException e) {
+            return CsvResponse.error(HttpStatus.UNAUTHORIZED, e.getMessage());
+        }
+        try {
+            exportService.requireEvent(eventId, null);
+            return CsvResponse.attachment("attendance-event-" + eventId + ".csv",
+                    out -> exportService.writeEventAttendance(eventId, out));
+        } catch (PortalException e) {
+            return CsvResponse.error(PortalErrors.status(e), e.getMessage());
+        }
+    }
+
+    @GetMapping("/export/registrations.csv")
+    public ResponseEntity<StreamingResponseBody> exportRegistrations(HttpSession session) {
+        try {
+            adminService.checkAdminSession(session);
+            return CsvResponse.attachment("registrations.csv", exportService::writeRegistrations);
+        } catch (RuntimeException e) {
+            return CsvResponse.error(HttpStatus.UNAUTHORIZED, e.getMessage());
+        }
+    }
+
+    @GetMapping("/export/students.csv")
+    public ResponseEntity<StreamingResponseBody> exportStudents(HttpSession session) {
+        try {
+            adminService.checkAdminSession(session);
+            return CsvResponse.attachment("students.csv", exportService::writeStudentRoster);
+        } catch (RuntimeException e) {
+            return CsvResponse.error(HttpStatus.UNAUTHORIZED, e.getMessage());
+        }
+    }
+
     // ------------------- STUDENTS -------------------
     @GetMapping("/students")
-public ResponseEntity<?> getAllStudents(HttpSession session) {
+public ResponseEntity<?> getAllStudents(HttpSession session,
+                                        @RequestParam(required = false) Integer limit,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) String sort) {
     try {
         adminService.checkAdminSession(session);
+        if (isPaged(limit, cursor, sort)) return ResponseEntity.ok(adminService.getStudentsPage(cursor, limit, sort));
         return ResponseEntity.ok(adminService.getAllStudentsWithEvents());
+    } catch (PortalException e) {
+        return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
     } catch (RuntimeException e) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
     }
@@ -149,6 +301,20 @@ public ResponseEntity<?> getAllStudents(HttpSession session) {
 
 
 
+    @GetMapping("/students/search")
+    public ResponseEntity<?> searchStudents(HttpSession session,
+                                            @RequestParam("q") String query,
+                                            @RequestParam(required = false) Integer limit) {
+        try {
+            adminService.checkAdminSession(session);
+            return ResponseEntity.ok(adminService.searchStudents(query, limit));
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+
     @PutMapping("/students/{id}")
     public ResponseEntity<?> updateStudent(HttpSession session, @PathVariable Long id, @RequestBody Student updatedStudent) {
         try {
@@ -169,12 +335,29 @@ public ResponseEntity<?> getAllStudents(HttpSession session) {
         }
     }
 
+    // Body is a JSON array of ids; registrations and seat counts are cleaned up in the same transaction
+    @PostMapping("/students/bulk-delete")
+    public ResponseEntity<?> deleteStudents(HttpSession session, @RequestBody List<Long> ids) {
+        try {
+            adminService.checkAdminSession(session);
+            return ResponseEntity.ok(adminService.deleteStudents(ids));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     // ------------------- EVENTS -------------------
     @GetMapping("/events")
-    public ResponseEntity<?> getAllEvents(HttpSession session) {
+    public ResponseEntity<?> getAllEvents(HttpSession session,
+                                          @RequestParam(required = false) Integer limit,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) String sort) {
         try {
             adminService.checkAdminSession(session);
+            if (isPaged(limit, cursor, sort)) return ResponseEntity.ok(adminService.getEventsPage(cursor, limit, sort));
             return ResponseEntity.ok(adminService.getAllEvents());
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
         }
@@ -210,11 +393,27 @@ public ResponseEntity<?> getAllStudents(HttpSession session) {
         }
     }
 
+    @PostMapping("/events/bulk-delete")
+    public ResponseEntity<?> deleteEvents(HttpSession session, @RequestBody List<Long> ids) {
+        try {
+            adminService.checkAdminSession(session);
+            return ResponseEntity.ok(adminService.deleteEvents(ids));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/events/{eventId}/students")
-    public ResponseEntity<?> getStudentsByEvent(HttpSession session, @PathVariable Long eventId) {
+    public ResponseEntity<?> getStudentsByEvent(HttpSession session, @PathVariable Long eventId,
+                                                @RequestParam(required = false) Integer limit,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) String sort) {
         try {
             adminService.checkAdminSession(session);
+            if (isPaged(limit, cursor, sort)) return ResponseEntity.ok(adminService.getStudentsByEventPage(eventId, cursor, limit, sort));
             return ResponseEntity.ok(adminService.getStudentsByEvent(eventId));
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
@@ -229,4 +428,39 @@ public ResponseEntity<?> getAllStudents(HttpSession session) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
     }
+
+    // Live registration and attendance changes for one event, as Server-Sent Events
+    @GetMapping(value = "/events/{eventId}/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> attendanceFeed(HttpSession session, @PathVariable Long eventId) {
+        try {
+            adminService.checkAdminSession(session);
+            return ResponseEntity.ok(adminService.subscribeToAttendance(eventId));
+        } catch (PortalException e) {
+            // no body: the converter for an SSE response can't write a plain message
+            return ResponseEntity.status(PortalErrors.status(e)).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    // Attendance totals per event, department and faculty, served from in-memory counters
+    @GetMapping("/analytics")
+    public ResponseEntity<?> getAttendanceOverview(HttpSession session) {
+        try {
+            adminService.checkAdminSession(session);
+            return ResponseEntity.ok(adminService.getAttendanceOverview());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/analytics/events/{eventId}")
+    public ResponseEntity<?> getEventAttendance(HttpSession session, @PathVariable Long eventId) {
+        try {
+            adminService.checkAdminSession(session);
+            return ResponseEntity.ok(adminService.getEventAttendance(eventId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.act.backend.controllers;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+// Download response for the CSV exports; the body is written on an MVC async thread as rows arrive
+final class CsvResponse {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private CsvResponse() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> attachment(String fileName, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    // Plain-text error for the same return type; the StreamingResponseBody handler only claims
+    // ResponseEntity<StreamingResponseBody>, so these endpoints cannot fall back to ResponseEntity<?>
+    static ResponseEntity<StreamingResponseBody> error(HttpStatusCode status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
+    }
+}
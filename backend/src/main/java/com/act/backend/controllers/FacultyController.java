@@ -1,15 +1,24 @@
 package com.act.backend.controllers;
 
+import com.act.backend.dto.AttendanceMark;
+import com.act.backend.dto.AttendanceMarkResult;
 import com.act.backend.dto.StudentAttendanceDTO;
 import com.act.backend.dto.EventDTO;
+import com.act.backend.dto.SessionPrincipal;
 import com.act.backend.models.Faculty;
+import com.act.backend.services.CsvExportService;
 import com.act.backend.services.FacultyService;
+import com.act.backend.services.PortalException;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -21,12 +30,14 @@ public class FacultyController {
 
     @Autowired
     private FacultyService facultyService;
+    @Autowired
+    private CsvExportService exportService;
 
-    // Helper: check session
+    // Helper: check session and load the current faculty (a cached by-id read)
     private Faculty checkFacultySession(HttpSession session) {
-        Faculty f = (Faculty) session.getAttribute("faculty");
-        if (f == null) throw new RuntimeException("Not logged in");
-        return f;
+        SessionPrincipal p = SessionPrincipal.from(session, SessionPrincipal.FACULTY)
+                .orElseThrow(() -> new RuntimeException("Not logged in"));
+        return facultyService.getFaculty(p.id());
     }
 
     // Register
@@ -40,7 +51,7 @@ public class FacultyController {
     public ResponseEntity<?> login(@RequestBody Map<String, String> body, HttpSession session) {
         try {
             Faculty f = facultyService.login(body.get("email"), body.get("password"));
-            session.setAttribute("faculty", f);
+            SessionPrincipal.of(f).storeIn(session);
             return ResponseEntity.ok(f);
         } catch (RuntimeException e) {
             return ResponseEntity.status(401).body("Invalid credentials: " + e.getMessage());
@@ -71,7 +82,7 @@ public class FacultyController {
         try {
             Faculty f = checkFacultySession(session);
             Faculty saved = facultyService.updateProfile(f, updated);
-            session.setAttribute("faculty", saved);
+            SessionPrincipal.of(saved).storeIn(session);
             return ResponseEntity.ok(saved);
         } catch (RuntimeException e) {
             return ResponseEntity.status(401).body(e.getMessage());
@@ -125,6 +136,24 @@ public class FacultyController {
         }
     }
 
+    // Attendance sheet for one of this faculty's events, streamed as CSV
+    @GetMapping("/events/{eventId}/attendance.csv")
+    public ResponseEntity<StreamingResponseBody> exportAttendance(@PathVariable Long eventId, HttpSession session) {
+        Faculty f;
+        try {
+            f = checkFacultySession(session);
+        } catch (RuntimeException e) {
+            return CsvResponse.error(HttpStatus.UNAUTHORIZED, "Failed to export attendance: " + e.getMessage());
+        }
+        try {
+            exportService.requireEvent(eventId, f);
+            return CsvResponse.attachment("attendance-event-" + eventId + ".csv",
+                    out -> exportService.writeEventAttendance(eventId, out));
+        } catch (PortalException e) {
+            return CsvResponse.error(PortalErrors.status(e), "Failed to export attendance: " + e.getMessage());
+        }
+    }
+
     // Mark Attendance
     @PostMapping("/events/{eventId}/attendance")
     public ResponseEntity<?> markAttendance(@PathVariable Long eventId,
@@ -139,4 +168,62 @@ public class FacultyController {
             return ResponseEntity.badRequest().body("Failed to mark attendance: " + e.getMessage());
         }
     }
+
+    // Mark Attendance for many students of one event in a single call
+    @PostMapping("/events/{eventId}/attendance/bulk")
+    public ResponseEntity<?> markAttendanceBulk(@PathVariable Long eventId,
+                                                @RequestBody List<AttendanceMark> marks,
+                                                HttpSession session) {
+        try {
+            Faculty f = checkFacultySession(session);
+            List<AttendanceMarkResult> results = facultyService.markAttendanceBulk(f, eventId, marks);
+            return ResponseEntity.ok(results);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body("Failed to mark attendance: " + e.getMessage());
+        }
+    }
+
+    // Signed code students present to check themselves in; fetch a new one before it expires
+    @GetMapping("/events/{eventId}/check-in-token")
+    public ResponseEntity<?> issueCheckInToken(@PathVariable Long eventId, HttpSession session) {
+        try {
+            Faculty f = checkFacultySession(session);
+            return ResponseEntity.ok(facultyService.issueCheckInToken(f, eventId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body("Failed to issue check-in token: " + e.getMessage());
+        }
+    }
+
+    // Attendance totals for this faculty's events
+    @GetMapping("/analytics")
+    public ResponseEntity<?> getAttendanceAnalytics(HttpSession session) {
+        try {
+            Faculty f = checkFacultySession(session);
+            return ResponseEntity.ok(facultyService.getAttendanceAnalytics(f));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(401).body(e.getMessage());
+        }
+    }
+
+    // Live registration and attendance changes for all assigned events, as Server-Sent Events
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> attendanceFeed(HttpSession session) {
+        try {
+            Faculty f = checkFacultySession(session);
+            return ResponseEntity.ok(facultyService.subscribeToAttendance(f, null));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(401).build();
+        }
+    }
+
+    // The same for one assigned event
+    @GetMapping(value = "/events/{eventId}/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> eventAttendanceFeed(@PathVariable Long eventId, HttpSession session) {
+        try {
+            Faculty f = checkFacultySession(session);
+            return ResponseEntity.ok(facultyService.subscribeToAttendance(f, eventId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
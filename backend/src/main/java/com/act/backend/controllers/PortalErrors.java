@@ -0,0 +1,21 @@
+package com.act.backend.controllers;
+
+import com.act.backend.services.PortalException;
+import org.springframework.http.HttpStatus;
+
+// HTTP status for each PortalException reason, shared by the controllers that catch it
+final class PortalErrors {
+
+    private PortalErrors() {
+    }
+
+    static HttpStatus status(PortalException e) {
+        return switch (e.reason()) {
+            case INVALID_REQUEST, EXPIRED -> HttpStatus.BAD_REQUEST;
+            case UNAUTHORIZED -> HttpStatus.UNAUTHORIZED;
+            case FORBIDDEN -> HttpStatus.FORBIDDEN;
+            case NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case FULL, DUPLICATE, NOT_REGISTERED -> HttpStatus.CONFLICT;
+        };
+    }
+}
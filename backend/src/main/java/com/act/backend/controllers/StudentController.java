@@ -1,15 +1,20 @@
 package com.act.backend.controllers;
 
+import com.act.backend.dto.AttendanceSummaryDTO;
 import com.act.backend.dto.EventDTO;
+import com.act.backend.dto.SessionPrincipal;
 import com.act.backend.models.Student;
+import com.act.backend.services.PortalException;
 import com.act.backend.services.StudentService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -21,10 +26,9 @@ public class StudentController {
     private StudentService studentService;
 
     // ✅ Helper: ensure student is logged in
-    private Student checkStudentSession(HttpSession session) {
-        Student student = (Student) session.getAttribute("student");
-        if (student == null) throw new RuntimeException("Not logged in");
-        return student;
+    private SessionPrincipal checkStudentSession(HttpSession session) {
+        return SessionPrincipal.from(session, SessionPrincipal.STUDENT)
+                .orElseThrow(() -> new RuntimeException("Not logged in"));
     }
 
     // ---------------- PUBLIC ----------------
@@ -58,7 +62,7 @@ public class StudentController {
 
     @GetMapping("/profile")
     public ResponseEntity<Student> getProfile(HttpSession session) {
-        return ResponseEntity.ok(checkStudentSession(session));
+        return ResponseEntity.ok(studentService.getProfile(session));
     }
 
     @PutMapping("/profile")
@@ -74,18 +78,90 @@ public class StudentController {
 
     @PostMapping("/register-event/{eventId}")
     public ResponseEntity<String> registerEvent(HttpSession session, @PathVariable Long eventId) {
-        return ResponseEntity.ok(studentService.registerEvent(session, eventId));
+        try {
+            return ResponseEntity.ok(studentService.registerEvent(session, eventId));
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
+        }
     }
 
     @PostMapping("/unregister-event/{eventId}")
     public ResponseEntity<String> unregisterEvent(HttpSession session, @PathVariable Long eventId) {
-        return ResponseEntity.ok(studentService.unregisterEvent(session, eventId));
+        try {
+            return ResponseEntity.ok(studentService.unregisterEvent(session, eventId));
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
+        }
     }
 
     @GetMapping("/events")
-    public ResponseEntity<List<EventDTO>> getAllEvents(HttpSession session) {
+    public ResponseEntity<?> getAllEvents(HttpSession session,
+                                          @RequestParam(required = false) Integer limit,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) String sort) {
         checkStudentSession(session);
-        return ResponseEntity.ok(studentService.getAllEvents());
+        try {
+            // Keyset page ({items, next}) when any paging parameter is given, full array otherwise
+            if (limit != null || cursor != null || sort != null) {
+                return ResponseEntity.ok(studentService.getEventsPage(cursor, limit, sort));
+            }
+            return ResponseEntity.ok(studentService.getAllEvents());
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
+        }
+    }
+
+    // Ranked search over name, venue and description; every word must match as a whole word or a prefix
+    @GetMapping("/events/search")
+    public ResponseEntity<?> searchEvents(HttpSession session,
+                                          @RequestParam("q") String query,
+                                          @RequestParam(required = false) Integer limit) {
+        checkStudentSession(session);
+        try {
+            return ResponseEntity.ok(studentService.searchEvents(query, limit));
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
+        }
+    }
+
+    // Schedule views filtered and ordered by the database; always keyset pages ({items, next})
+    @GetMapping("/events/upcoming")
+    public ResponseEntity<?> getUpcomingEvents(HttpSession session,
+                                               @RequestParam(required = false) Integer limit,
+                                               @RequestParam(required = false) String cursor) {
+        checkStudentSession(session);
+        try {
+            return ResponseEntity.ok(studentService.getUpcomingEvents(cursor, limit));
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/events/past")
+    public ResponseEntity<?> getPastEvents(HttpSession session,
+                                           @RequestParam(required = false) Integer limit,
+                                           @RequestParam(required = false) String cursor) {
+        checkStudentSession(session);
+        try {
+            return ResponseEntity.ok(studentService.getPastEvents(cursor, limit));
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
+        }
+    }
+
+    // Events starting on any day from..to inclusive (ISO dates)
+    @GetMapping("/events/range")
+    public ResponseEntity<?> getEventsBetween(HttpSession session,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                              @RequestParam(required = false) Integer limit,
+                                              @RequestParam(required = false) String cursor) {
+        checkStudentSession(session);
+        try {
+            return ResponseEntity.ok(studentService.getEventsBetween(from, to, cursor, limit));
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body(e.getMessage());
+        }
     }
 
     @GetMapping("/registered-events")
@@ -93,6 +169,24 @@ public class StudentController {
         return ResponseEntity.ok(studentService.getRegisteredEvents(session));
     }
 
+    // Registered events with attendance and totals in one call (replaces one attendance request per event)
+    @GetMapping("/registered-events/summary")
+    public ResponseEntity<AttendanceSummaryDTO> getAttendanceSummary(HttpSession session) {
+        return ResponseEntity.ok(studentService.getAttendanceSummary(session));
+    }
+
+    // Self check-in with the code shown at the door; accepted here, written in the next batch
+    @PostMapping("/check-in")
+    public ResponseEntity<String> checkIn(HttpSession session, @RequestBody Map<String, String> body) {
+        try {
+            return ResponseEntity.accepted().body(studentService.checkIn(session, body.get("token")));
+        } catch (PortalException e) {
+            return ResponseEntity.status(PortalErrors.status(e)).body("Check-in failed: " + e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body("Check-in failed: " + e.getMessage());
+        }
+    }
+
     @GetMapping("/events/{eventId}/attendance")
     public ResponseEntity<Boolean> getAttendance(HttpSession session, @PathVariable Long eventId) {
         return ResponseEntity.ok(studentService.getAttendance(session, eventId));
@@ -0,0 +1,4 @@
+package com.act.backend.dto;
+
+/** Registrations sharing an event, student department and attendance state. */
+public record AttendanceCount(Long eventId, Long facultyId, String department, Boolean attendance, long count) {}
@@ -0,0 +1,15 @@
+package com.act.backend.dto;
+
+import java.util.List;
+
+/**
+ * One change to an event's roster, pushed to live feed subscribers. {@code student} is only set
+ * for registrations, so a client can add the row without re-fetching the roster.
+ */
+public record AttendanceDelta(String type, Long eventId, List<Long> studentIds, Boolean attendance,
+                              StudentAttendanceDTO student) {
+
+    public static final String REGISTERED = "registered";
+    public static final String UNREGISTERED = "unregistered";
+    public static final String ATTENDANCE = "attendance";
+}
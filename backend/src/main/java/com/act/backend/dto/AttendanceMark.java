@@ -0,0 +1,11 @@
+package com.act.backend.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceMark {
+    private Long studentId;
+    private Boolean present;
+}
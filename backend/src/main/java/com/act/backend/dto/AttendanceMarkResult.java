@@ -0,0 +1,18 @@
+package com.act.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AttendanceMarkResult {
+
+    public static final String MARKED = "MARKED";
+    public static final String NOT_REGISTERED = "NOT_REGISTERED";
+    public static final String INVALID = "INVALID";
+    public static final String SUPERSEDED = "SUPERSEDED";   // a later mark for the same student was applied instead
+
+    private Long studentId;
+    private Boolean present;
+    private String status; // MARKED, NOT_REGISTERED, INVALID or SUPERSEDED
+}
@@ -0,0 +1,8 @@
+package com.act.backend.dto;
+
+import java.util.List;
+
+public record AttendanceOverview(AttendanceStats totals,
+                                 List<AttendanceStats> events,
+                                 List<AttendanceStats> departments,
+                                 List<AttendanceStats> faculties) {}
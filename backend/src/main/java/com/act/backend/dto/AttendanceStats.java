@@ -0,0 +1,8 @@
+package com.act.backend.dto;
+
+/**
+ * Registration and attendance totals for one event, department or faculty member (or everything,
+ * with a null key). The rate is present over marked registrations, 0 while nothing is marked.
+ */
+public record AttendanceStats(String key, long registered, long present, long absent, long notMarked,
+                              double attendanceRate) {}
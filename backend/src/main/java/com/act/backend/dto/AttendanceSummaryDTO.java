@@ -0,0 +1,10 @@
+package com.act.backend.dto;
+
+import java.util.List;
+
+public record AttendanceSummaryDTO(
+        List<RegisteredEventAttendance> events,
+        long present,
+        long absent,
+        long notMarked
+) {}
@@ -0,0 +1,6 @@
+package com.act.backend.dto;
+
+import java.time.Instant;
+
+/** A signed check-in code for one event, shown by faculty (e.g. as a QR code) and presented by students. */
+public record CheckInToken(Long eventId, String token, Instant expiresAt) {}
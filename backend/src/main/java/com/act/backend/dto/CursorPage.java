@@ -0,0 +1,6 @@
+package com.act.backend.dto;
+
+import java.util.List;
+
+// One page of a keyset-paginated listing; next is an opaque cursor, null on the last page
+public record CursorPage<T>(List<T> items, String next) {}
@@ -0,0 +1,4 @@
+package com.act.backend.dto;
+
+// One typeahead suggestion from the admin student or faculty directory
+public record DirectoryMatch(Long id, String name, String email, String department) {}
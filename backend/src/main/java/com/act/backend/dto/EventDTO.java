@@ -2,6 +2,8 @@ package com.act.backend.dto;
 
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,4 +16,6 @@ public class EventDTO {
     private String facultyName;      
     private String facultyEmail;     
     private String facultyDepartment;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
 }
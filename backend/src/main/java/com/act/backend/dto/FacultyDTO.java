@@ -2,6 +2,8 @@ package com.act.backend.dto;
 
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,4 +16,5 @@ public class FacultyDTO {
     private String gender;
     private boolean approved;
     private int assignedEventsCount; // ✅ NEW
+    private LocalDateTime registeredAt;
 }
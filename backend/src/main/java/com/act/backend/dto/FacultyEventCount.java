@@ -0,0 +1,3 @@
+package com.act.backend.dto;
+
+public record FacultyEventCount(Long facultyId, long eventCount) {}
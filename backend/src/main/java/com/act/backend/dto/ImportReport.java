@@ -0,0 +1,11 @@
+package com.act.backend.dto;
+
+import java.util.List;
+
+// Outcome of a CSV bulk import; errors lists at most the first few hundred rejected rows.
+// fatalError is set when the import stopped early; rows counts what was read up to that point.
+public record ImportReport(long rows, long imported, long rejected, List<RowError> errors, boolean errorsTruncated,
+                           String fatalError) {
+
+    public record RowError(long line, String email, String message) {}
+}
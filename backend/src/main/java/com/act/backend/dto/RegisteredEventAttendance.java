@@ -0,0 +1,14 @@
+package com.act.backend.dto;
+
+// One registered event as the student sees it, with their attendance (null = not marked yet)
+public record RegisteredEventAttendance(
+        Long id,
+        String name,
+        String description,
+        String date,
+        String venue,
+        String facultyName,
+        String facultyEmail,
+        String facultyDepartment,
+        Boolean attendance
+) {}
@@ -0,0 +1,3 @@
+package com.act.backend.dto;
+
+public record RegistrationState(Long studentId, String department, Boolean attendance) {}
@@ -0,0 +1,43 @@
+package com.act.backend.dto;
+
+import com.act.backend.models.Admin;
+import com.act.backend.models.Faculty;
+import com.act.backend.models.Student;
+import jakarta.servlet.http.HttpSession;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * What a login leaves in the HTTP session: who the user is, not their entity.
+ * <p>
+ * Stored under the attribute named by its role ("student", "faculty", "admin"). It is small,
+ * immutable and serialisable, so any session store can replicate it; services reload the entity by
+ * id when they need current data.
+ */
+public record SessionPrincipal(Long id, String role, String displayName) implements Serializable {
+
+    public static final String STUDENT = "student";
+    public static final String FACULTY = "faculty";
+    public static final String ADMIN = "admin";
+
+    public static SessionPrincipal of(Student s) {
+        return new SessionPrincipal(s.getId(), STUDENT, s.getName());
+    }
+
+    public static SessionPrincipal of(Faculty f) {
+        return new SessionPrincipal(f.getId(), FACULTY, f.getName());
+    }
+
+    public static SessionPrincipal of(Admin a) {
+        return new SessionPrincipal(a.getId(), ADMIN, a.getUsername());
+    }
+
+    public void storeIn(HttpSession session) {
+        session.setAttribute(role, this);
+    }
+
+    public static Optional<SessionPrincipal> from(HttpSession session, String role) {
+        return session.getAttribute(role) instanceof SessionPrincipal p ? Optional.of(p) : Optional.empty();
+    }
+}
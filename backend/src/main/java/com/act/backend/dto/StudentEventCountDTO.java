@@ -0,0 +1,11 @@
+package com.act.backend.dto;
+
+public record StudentEventCountDTO(
+        Long id,
+        String name,
+        String email,
+        String phone,
+        String gender,
+        String department,
+        long eventCount
+) {}
@@ -0,0 +1,3 @@
+package com.act.backend.dto;
+
+public record StudentEventName(Long studentId, String eventName) {}
@@ -0,0 +1,17 @@
+package com.act.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// One row of the admin roster join: a student plus one registered event name (null if none)
+@Data
+@AllArgsConstructor
+public class StudentRosterRow {
+    private Long id;
+    private String name;
+    private String email;
+    private String phone;
+    private String department;
+    private String gender;
+    private String eventName;
+}
@@ -4,8 +4,15 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_event_start", columnList = "start_time"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,6 +23,11 @@ public class Event {
 
     private String name, description, date, venue;
 
+    // Typed schedule; date is kept as the display text the admin entered
+    private LocalDateTime startTime, endTime;
+
+    private Integer capacity;  // max registrations, null = unlimited (seats are counted in EventSeat)
+
     @ManyToOne
 @JoinColumn(name = "faculty_id")
 @JsonBackReference
@@ -0,0 +1,19 @@
+package com.act.backend.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Registration counter per event, kept out of the cached Event row so seat claims don't evict it
+@Entity
+@Table(name = "event_seat")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSeat {
+
+    @Id
+    private Long eventId;
+
+    private int registered;
+}
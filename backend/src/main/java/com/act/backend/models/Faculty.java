@@ -2,12 +2,19 @@ package com.act.backend.models;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 @Entity
+@Table(indexes = @Index(name = "idx_faculty_pending", columnList = "approved, registered_at"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,7 +33,11 @@ public class Faculty {
     private String password;    // set after approval
     private boolean approved = false;
 
+    @CreationTimestamp
+    private LocalDateTime registeredAt;  // orders the approval queue
+
     @OneToMany(mappedBy = "faculty", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JsonManagedReference
     private List<Event> eventsAssigned;  // faculty can be assigned many events
 }
@@ -5,7 +5,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.*;
 import lombok.*;
@@ -28,12 +28,13 @@ public class Student {
     private String department;
     private String password;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    // Lazy: login, profile and roster reads never need it
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "student_events",
         joinColumns = @JoinColumn(name = "student_id"),
         inverseJoinColumns = @JoinColumn(name = "event_id")
     )
-    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+    @JsonIgnore
     private Set<Event> registeredEvents = new HashSet<>();
 }
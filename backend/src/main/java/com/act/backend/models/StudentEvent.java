@@ -4,7 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "student_event")
+@Table(name = "student_event",
+       uniqueConstraints = @UniqueConstraint(name = "uk_student_event", columnNames = {"student_id", "event_id"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
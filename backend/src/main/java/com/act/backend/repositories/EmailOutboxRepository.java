@@ -0,0 +1,53 @@
+package com.act.backend.repositories;
+
+import com.act.backend.models.EmailOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    @Query("SELECT m.id FROM EmailOutbox m WHERE m.status = com.act.backend.models.EmailOutbox.Status.PENDING " +
+           "AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt, m.id")
+    List<Long> findDueIds(LocalDateTime now, Limit limit);
+
+    // Conditional claim: only one node wins a row, the others see 0 updated
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox m SET m.status = com.act.backend.models.EmailOutbox.Status.SENDING, m.lockedUntil = :leaseUntil " +
+           "WHERE m.id = :id AND m.status = com.act.backend.models.EmailOutbox.Status.PENDING")
+    int claim(Long id, LocalDateTime leaseUntil);
+
+    // A lapsed lease counts as a failed attempt, so a message that hangs or kills its sender is
+    // dead-lettered like any other; run before releaseExpiredLeases, which hands back the rest
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox m SET m.status = com.act.backend.models.EmailOutbox.Status.DEAD, " +
+           "m.attempts = m.attempts + 1, m.lastError = :error, m.lockedUntil = null " +
+           "WHERE m.status = com.act.backend.models.EmailOutbox.Status.SENDING AND m.lockedUntil < :now " +
+           "AND m.attempts + 1 >= :maxAttempts")
+    int deadLetterExpiredLeases(LocalDateTime now, int maxAttempts, String error);
+
+    // Hand back rows whose sender died mid-delivery
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox m SET m.status = com.act.backend.models.EmailOutbox.Status.PENDING, " +
+           "m.attempts = m.attempts + 1, m.lastError = :error, m.lockedUntil = null " +
+           "WHERE m.status = com.act.backend.models.EmailOutbox.Status.SENDING AND m.lockedUntil < :now")
+    int releaseExpiredLeases(LocalDateTime now, String error);
+
+    long countByStatus(EmailOutbox.Status status);
+
+    // One mail per listed faculty member still awaiting approval, queued in a single INSERT ... SELECT
+    @Modifying
+    @Query("INSERT INTO EmailOutbox (recipient, subject, body, status, attempts, createdAt, nextAttemptAt) " +
+           "SELECT f.email, :subject, CONCAT(:textPrefix, f.email), com.act.backend.models.EmailOutbox.Status.PENDING, 0, :now, :now " +
+           "FROM Faculty f WHERE f.id IN :facultyIds AND f.approved = false")
+    int queueForPendingFaculty(Collection<Long> facultyIds, String subject, String textPrefix, LocalDateTime now);
+}
@@ -1,13 +1,78 @@
 package com.act.backend.repositories;
 
+import com.act.backend.dto.EventOwner;
+import com.act.backend.dto.FacultyEventCount;
 import com.act.backend.models.Event;
 import com.act.backend.models.Faculty;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
+
+    // Catalog listing is served from the query cache until an event/faculty write invalidates it
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Event> findAll();
+
     List<Event> findByFaculty(Faculty faculty);
 
+    // Keyset page of events, faculty fetched in the same statement
+    @EntityGraph(attributePaths = "faculty")
+    Window<Event> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    // Schedule windows, all seeks on idx_event_start; events without a parsed start time are left out
+    @EntityGraph(attributePaths = "faculty")
+    Window<Event> findByStartTimeGreaterThanEqual(LocalDateTime from, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = "faculty")
+    Window<Event> findByStartTimeLessThan(LocalDateTime before, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = "faculty")
+    Window<Event> findByStartTimeGreaterThanEqualAndStartTimeLessThan(LocalDateTime from, LocalDateTime before,
+                                                                      ScrollPosition position, Sort sort, Limit limit);
+
+    List<Event> findByStartTimeIsNullAndDateIsNotNull();
+
+    // Loads search hits in one statement; the caller restores the ranking order
+    @EntityGraph(attributePaths = "faculty")
+    List<Event> findByIdIn(Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.act.backend.dto.FacultyEventCount(e.faculty.id, COUNT(e)) FROM Event e " +
+           "WHERE e.faculty IS NOT NULL GROUP BY e.faculty.id")
+    List<FacultyEventCount> countPerFaculty();
+
+    @Query("SELECT new com.act.backend.dto.FacultyEventCount(e.faculty.id, COUNT(e)) FROM Event e " +
+           "WHERE e.faculty.id IN :facultyIds GROUP BY e.faculty.id")
+    List<FacultyEventCount> countPerFaculty(Collection<Long> facultyIds);
+
+    @Query("SELECT new com.act.backend.dto.EventOwner(e.id, f.id) FROM Event e LEFT JOIN e.faculty f")
+    List<EventOwner> findOwners();
+
+    @Query("SELECT e.id FROM Event e WHERE e.faculty.id = :facultyId")
+    List<Long> findIdsByFacultyId(Long facultyId);
+
+    @Modifying
+    @Query("UPDATE Event e SET e.faculty = :to WHERE e.faculty.id = :fromFacultyId")
+    int reassignAll(Long fromFacultyId, Faculty to);
+
+    // Callers clear student_event, student_events and event_seat for these ids first
+    @Modifying
+    @Query("DELETE FROM Event e WHERE e.id IN :ids")
+    int deleteAllByIdIn(Collection<Long> ids);
 }
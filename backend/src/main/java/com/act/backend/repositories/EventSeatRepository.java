@@ -0,0 +1,39 @@
+package com.act.backend.repositories;
+
+import com.act.backend.models.EventSeat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+
+public interface EventSeatRepository extends JpaRepository<EventSeat, Long> {
+
+    // Takes a seat only while one is left; the row lock serialises concurrent claims for the same event
+    @Modifying
+    @Query("UPDATE EventSeat s SET s.registered = s.registered + 1 WHERE s.eventId = :eventId " +
+           "AND s.registered < COALESCE((SELECT e.capacity FROM Event e WHERE e.id = :eventId), 2147483647)")
+    int claimSeat(Long eventId);
+
+    @Modifying
+    @Query("UPDATE EventSeat s SET s.registered = s.registered - 1 WHERE s.eventId = :eventId AND s.registered > 0")
+    int releaseSeat(Long eventId);
+
+    @Modifying
+    @Query("INSERT INTO EventSeat (eventId, registered) SELECT e.id, 0 FROM Event e " +
+           "WHERE NOT EXISTS (SELECT 1 FROM EventSeat s WHERE s.eventId = e.id)")
+    int insertMissing();
+
+    @Modifying
+    @Query("UPDATE EventSeat s SET s.registered = (SELECT COUNT(se) FROM StudentEvent se WHERE se.event.id = s.eventId)")
+    int recount();
+
+    @Modifying
+    @Query("UPDATE EventSeat s SET s.registered = (SELECT COUNT(se) FROM StudentEvent se WHERE se.event.id = s.eventId) " +
+           "WHERE s.eventId IN :eventIds")
+    int recount(Collection<Long> eventIds);
+
+    @Modifying
+    @Query("DELETE FROM EventSeat s WHERE s.eventId IN :eventIds")
+    int deleteByEventIds(Collection<Long> eventIds);
+}
@@ -1,10 +1,57 @@
 package com.act.backend.repositories;
 
+import com.act.backend.dto.DirectoryMatch;
 import com.act.backend.models.Faculty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FacultyRepository extends JpaRepository<Faculty, Long> {
     Optional<Faculty> findByEmail(String email);
+
+    // Just the columns the admin typeahead index keeps
+    @Query("SELECT new com.act.backend.dto.DirectoryMatch(f.id, f.name, f.email, f.department) FROM Faculty f")
+    List<DirectoryMatch> findDirectory();
+
+    // Faculty directory is served from the query cache until a faculty write invalidates it
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Faculty> findAll();
+
+    // Keyset page of faculty
+    Window<Faculty> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    // Approval queue, oldest registration first; served by idx_faculty_pending (approved, registered_at)
+    List<Faculty> findByApprovedFalseOrderByRegisteredAtAscIdAsc();
+
+    Window<Faculty> findByApprovedFalse(ScrollPosition position, Sort sort, Limit limit);
+
+    long countByApprovedFalse();
+
+    // Rows created before registeredAt existed; keyset seeks cannot compare NULLs
+    @Modifying
+    @Query("UPDATE Faculty f SET f.registeredAt = :now WHERE f.registeredAt IS NULL")
+    int backfillRegisteredAt(LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Faculty f SET f.approved = true WHERE f.id IN :ids AND f.approved = false")
+    int approveAll(Collection<Long> ids);
+
+    // Bulk delete skips the eventsAssigned cascade; callers move or delete the events first
+    @Modifying
+    @Query("DELETE FROM Faculty f WHERE f.id = :id")
+    int deleteFaculty(Long id);
 }
@@ -1,14 +1,26 @@
 package com.act.backend.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.act.backend.dto.AttendanceCount;
+import com.act.backend.dto.RegisteredEventAttendance;
+import com.act.backend.dto.RegistrationState;
+import com.act.backend.dto.StudentAttendanceDTO;
+import com.act.backend.dto.StudentEventCountDTO;
+import com.act.backend.dto.StudentEventName;
 import com.act.backend.models.Event;
 import com.act.backend.models.Student;
 import com.act.backend.models.StudentEvent;
@@ -24,10 +36,78 @@ public interface StudentEventRepository extends JpaRepository<StudentEvent, Long
     List<StudentEvent> findByEvent(Event event);
     @Modifying
     @Transactional
-    @Query(value = "UPDATE student_event SET attendance = :present WHERE event_id = :eventId AND student_id = :studentId", nativeQuery = true)
+    // JPQL rather than native SQL: a native update would flush every second-level cache region
+    @Query("UPDATE StudentEvent se SET se.attendance = :present WHERE se.event.id = :eventId AND se.student.id = :studentId")
     void updateAttendance(Long eventId, Long studentId, Boolean present);
 
+    // Set-based variant for bulk marking: one statement for a whole group of students
+    @Modifying
+    @Transactional
+    @Query("UPDATE StudentEvent se SET se.attendance = :present WHERE se.event.id = :eventId AND se.student.id IN :studentIds")
+    int updateAttendance(Long eventId, Collection<Long> studentIds, Boolean present);
+
+    @Modifying
+    @Query("DELETE FROM StudentEvent se WHERE se.student.id = :studentId AND se.event.id = :eventId")
+    int deleteRegistration(Long studentId, Long eventId);
+
+    @Query("SELECT new com.act.backend.dto.RegistrationState(s.id, s.department, se.attendance) " +
+           "FROM StudentEvent se JOIN se.student s WHERE se.event.id = :eventId AND s.id IN :studentIds")
+    List<RegistrationState> findRegistrationStates(Long eventId, Collection<Long> studentIds);
+
+    @Query("SELECT new com.act.backend.dto.StudentAttendanceDTO(s.id, s.name, s.email, s.phone, s.department, se.attendance) " +
+           "FROM StudentEvent se JOIN se.student s WHERE se.event.id = :eventId AND s.id = :studentId")
+    Optional<StudentAttendanceDTO> findRoster(Long eventId, Long studentId);
+
+    // Attendance analytics: registrations grouped by event, department and attendance state
+    String ATTENDANCE_COUNT = "SELECT new com.act.backend.dto.AttendanceCount(e.id, f.id, s.department, se.attendance, COUNT(se.id)) " +
+           "FROM StudentEvent se JOIN se.event e LEFT JOIN e.faculty f JOIN se.student s ";
+    String ATTENDANCE_GROUPS = " GROUP BY e.id, f.id, s.department, se.attendance";
+
+    @Query(ATTENDANCE_COUNT + ATTENDANCE_GROUPS)
+    List<AttendanceCount> countAttendance();
+
+    @Query(ATTENDANCE_COUNT + "WHERE e.id = :eventId" + ATTENDANCE_GROUPS)
+    List<AttendanceCount> countAttendanceByEvent(Long eventId);
+
+    @Query(ATTENDANCE_COUNT + "WHERE s.id = :studentId" + ATTENDANCE_GROUPS)
+    List<AttendanceCount> countAttendanceByStudent(Long studentId);
+
+    @Query(ATTENDANCE_COUNT + "WHERE e.id IN :eventIds" + ATTENDANCE_GROUPS)
+    List<AttendanceCount> countAttendanceByEvents(Collection<Long> eventIds);
+
+    @Query(ATTENDANCE_COUNT + "WHERE s.id IN :studentIds" + ATTENDANCE_GROUPS)
+    List<AttendanceCount> countAttendanceByStudents(Collection<Long> studentIds);
+
+    // Student dashboard: every registered event with its attendance in one statement
+    @Query("SELECT new com.act.backend.dto.RegisteredEventAttendance(e.id, e.name, e.description, e.date, e.venue, " +
+           "COALESCE(f.name, 'Unassigned'), f.email, f.department, se.attendance) " +
+           "FROM StudentEvent se JOIN se.event e LEFT JOIN e.faculty f WHERE se.student.id = :studentId ORDER BY se.id")
+    List<RegisteredEventAttendance> findRegisteredEventAttendance(Long studentId);
+
     @Query(value = "SELECT attendance FROM student_event WHERE event_id = :eventId AND student_id = :studentId", nativeQuery = true)
     Boolean findAttendance(Long eventId, Long studentId);
-    void deleteByEvent(Event event);
+
+    // One statement each, unlike a derived deleteBy which loads and removes row by row
+    @Modifying
+    @Query("DELETE FROM StudentEvent se WHERE se.event.id IN :eventIds")
+    int deleteByEventIds(Collection<Long> eventIds);
+
+    @Modifying
+    @Query("DELETE FROM StudentEvent se WHERE se.student.id IN :studentIds")
+    int deleteByStudentIds(Collection<Long> studentIds);
+
+    // (student, registration count) tuples in one round trip; students with no registrations count 0
+    @Query("SELECT new com.act.backend.dto.StudentEventCountDTO(s.id, s.name, s.email, s.phone, s.gender, s.department, COUNT(se.id)) " +
+           "FROM Student s LEFT JOIN StudentEvent se ON se.student = s " +
+           "GROUP BY s.id, s.name, s.email, s.phone, s.gender, s.department " +
+           "ORDER BY s.id")
+    List<StudentEventCountDTO> countEventsPerStudent();
+
+    @Query("SELECT new com.act.backend.dto.StudentEventName(se.student.id, se.event.name) FROM StudentEvent se " +
+           "WHERE se.student.id IN :studentIds ORDER BY se.id")
+    List<StudentEventName> findEventNames(Collection<Long> studentIds);
+
+    // Keyset page of an event's registrations, student fetched in the same statement
+    @EntityGraph(attributePaths = "student")
+    Window<StudentEvent> findByEventId(Long eventId, ScrollPosition position, Sort sort, Limit limit);
 }
@@ -1,10 +1,49 @@
 package com.act.backend.repositories;
 
+import com.act.backend.dto.DirectoryMatch;
+import com.act.backend.dto.StudentRosterRow;
 import com.act.backend.models.Student;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByEmail(String email);
+
+    // Just the columns the admin typeahead index keeps
+    @Query("SELECT new com.act.backend.dto.DirectoryMatch(s.id, s.name, s.email, s.department) FROM Student s")
+    List<DirectoryMatch> findDirectory();
+
+    // Whole admin roster in one statement, rows ordered so each student's events are contiguous
+    @Query("SELECT new com.act.backend.dto.StudentRosterRow(s.id, s.name, s.email, s.phone, s.department, s.gender, e.name) " +
+           "FROM Student s LEFT JOIN StudentEvent se ON se.student = s LEFT JOIN se.event e " +
+           "ORDER BY s.id, se.id")
+    List<StudentRosterRow> findRoster();
+
+    // Keyset page of students
+    Window<Student> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    // The legacy student_events join table behind Student.registeredEvents has no entity, hence native
+    // SQL; the declared query space keeps Hibernate from evicting every second-level cache region
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_events"))
+    @Query(value = "DELETE FROM student_events WHERE event_id IN (:eventIds)", nativeQuery = true)
+    int deleteLegacyRegistrationsByEventIds(Collection<Long> eventIds);
+
+    // Hibernate clears the students' student_events rows itself before this delete
+    @Modifying
+    @Query("DELETE FROM Student s WHERE s.id IN :ids")
+    int deleteAllByIdIn(Collection<Long> ids);
 }
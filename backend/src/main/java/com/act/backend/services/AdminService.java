@@ -3,6 +3,7 @@ package com.act.backend.services;
 import com.act.backend.dto.*;
 import com.act.backend.models.*;
 import jakarta.servlet.http.HttpSession;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -18,26 +19,43 @@ public interface AdminService {
     void checkAdminSession(HttpSession session);
 
     // Faculty
-    List<Faculty> getUnapprovedFaculties();
+    List<FacultyDTO> getUnapprovedFaculties();
+    CursorPage<FacultyDTO> getUnapprovedFacultiesPage(String cursor, Integer limit);
+    long countUnapprovedFaculties();
     List<FacultyDTO> getAllFaculties();
+    CursorPage<FacultyDTO> getFacultiesPage(String cursor, Integer limit, String sort);
     String approveFaculty(Long id);
+    String approveFaculties(List<Long> ids);
     String rejectFaculty(Long id, String reason);
     FacultyDTO updateFaculty(Long id, FacultyDTO updatedFaculty);
     String deleteFaculty(Long facultyId, Long replacementFacultyId);
+    String reassignEvents(Long fromFacultyId, Long toFacultyId);
+    List<DirectoryMatch> searchFaculties(String query, Integer limit);
 
     // Student
     // Student
 List<StudentWithEventsDTO> getAllStudentsWithEvents();
+    CursorPage<StudentWithEventsDTO> getStudentsPage(String cursor, Integer limit, String sort);
 
 
     Student updateStudent(Long id, Student updatedStudent);
     String deleteStudent(Long id);
+    String deleteStudents(List<Long> ids);
+    List<DirectoryMatch> searchStudents(String query, Integer limit);
 
     // Event
     List<EventDTO> getAllEvents();
+    CursorPage<EventDTO> getEventsPage(String cursor, Integer limit, String sort);
     Event addEvent(Map<String, Object> body);
     Event updateEvent(Long id, Map<String, Object> body);
     String deleteEvent(Long id);
+    String deleteEvents(List<Long> ids);
     List<StudentAttendanceDTO> getStudentsByEvent(Long eventId);
+    CursorPage<StudentAttendanceDTO> getStudentsByEventPage(Long eventId, String cursor, Integer limit, String sort);
     String reassignEvent(Long eventId, Long newFacultyId);
+    SseEmitter subscribeToAttendance(Long eventId);
+
+    // Analytics
+    AttendanceOverview getAttendanceOverview();
+    AttendanceStats getEventAttendance(Long eventId);
 }
@@ -4,11 +4,15 @@ import com.act.backend.dto.*;
 import com.act.backend.models.*;
 import com.act.backend.repositories.*;
 import jakarta.servlet.http.HttpSession;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,26 +24,49 @@ public class AdminServiceImpl implements AdminService {
     private final StudentRepository studentRepo;
     private final StudentEventRepository studentEventRepo;
     private final EmailService emailService;
+    private final EventSeatService seatService;
+    private final EventSearchIndex searchIndex;
+    private final DirectorySearch directory;
+    private final AttendanceAnalytics analytics;
+    private final AttendanceFeed feed;
+    private final PortalMetrics metrics;
+
+    private static final String APPROVAL_SUBJECT = "Faculty Approval";
+    private static final String APPROVAL_TEXT = "Approved! Set password: http://localhost:5173/faculty/set-password?email=";
+
+    private static final CursorPaging.SortKeys FACULTY_SORT =
+            CursorPaging.SortKeys.of("id", "id", "id", "name", "name", "email", "email");
+    private static final CursorPaging.SortKeys STUDENT_SORT =
+            CursorPaging.SortKeys.of("id", "id", "id", "name", "name", "email", "email");
+    private static final CursorPaging.SortKeys PENDING_FACULTY_SORT =
+            CursorPaging.SortKeys.of("id", "registered", "registeredAt").withType("registeredAt", LocalDateTime.class);
+    private static final CursorPaging.SortKeys EVENT_SORT =
+            CursorPaging.SortKeys.of("id", "id", "id", "name", "name", "date", "date");
+    private static final CursorPaging.SortKeys EVENT_STUDENT_SORT =
+            CursorPaging.SortKeys.of("id", "id", "id", "name", "student.name");
 
     // ------------------- SESSION -------------------
     @Override
     public void checkAdminSession(HttpSession session) {
-        Admin admin = (Admin) session.getAttribute("admin");
-        if (admin == null) {
+        if (SessionPrincipal.from(session, SessionPrincipal.ADMIN).isEmpty()) {
             throw new RuntimeException("Not logged in");
         }
     }
 
     @Override
     public Admin getAdminFromSession(HttpSession session) {
-        return (Admin) session.getAttribute("admin");
+        SessionPrincipal p = SessionPrincipal.from(session, SessionPrincipal.ADMIN)
+                .orElseThrow(() -> new RuntimeException("Not logged in"));
+        return adminRepo.findById(p.id()).orElseThrow(() -> new RuntimeException("Not logged in"));
     }
 
     // ------------------- ADMIN -------------------
     @Override
     public Optional<Admin> authenticate(String email, String password) {
-        return adminRepo.findByEmail(email)
-                .filter(admin -> admin.getPassword().equals(password));
+        Optional<Admin> admin = adminRepo.findByEmail(email)
+                .filter(a -> a.getPassword().equals(password));
+        metrics.login(SessionPrincipal.ADMIN, admin.isPresent());
+        return admin;
     }
 
     @Override
@@ -59,13 +86,56 @@ public class AdminServiceImpl implements AdminService {
 
     // ------------------- FACULTY -------------------
     @Override
-    public List<Faculty> getUnapprovedFaculties() {
-        return facultyRepo.findAll().stream().filter(f -> !f.isApproved()).toList();
+    @Transactional(readOnly = true)
+    public List<FacultyDTO> getUnapprovedFaculties() {
+        return toFacultyDTOs(facultyRepo.findByApprovedFalseOrderByRegisteredAtAscIdAsc());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<FacultyDTO> getUnapprovedFacultiesPage(String cursor, Integer limit) {
+        String sortKey = PENDING_FACULTY_SORT.resolve(null);
+        Window<Faculty> window = facultyRepo.findByApprovedFalse(
+                CursorPaging.position(cursor, PENDING_FACULTY_SORT, sortKey), PENDING_FACULTY_SORT.sort(sortKey), CursorPaging.limit(limit));
+        return CursorPaging.page(window, sortKey, this::toFacultyDTOs);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countUnapprovedFaculties() {
+        return facultyRepo.countByApprovedFalse();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<FacultyDTO> getAllFaculties() {
-        return facultyRepo.findAll().stream().map(f -> new FacultyDTO(
+        Map<Long, Long> counts = eventRepo.countPerFaculty().stream()
+                .collect(Collectors.toMap(FacultyEventCount::facultyId, FacultyEventCount::eventCount));
+        return facultyRepo.findAll().stream()
+                .map(f -> toFacultyDTO(f, counts.getOrDefault(f.getId(), 0L)))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<FacultyDTO> getFacultiesPage(String cursor, Integer limit, String sort) {
+        String sortKey = FACULTY_SORT.resolve(sort);
+        Window<Faculty> window = facultyRepo.findBy(
+                CursorPaging.position(cursor, FACULTY_SORT, sortKey), FACULTY_SORT.sort(sortKey), CursorPaging.limit(limit));
+
+        return CursorPaging.page(window, sortKey, this::toFacultyDTOs);
+    }
+
+    // One grouped count query for the whole batch
+    private List<FacultyDTO> toFacultyDTOs(List<Faculty> faculties) {
+        if (faculties.isEmpty()) return List.of();
+        Map<Long, Long> counts = eventRepo.countPerFaculty(faculties.stream().map(Faculty::getId).toList()).stream()
+                .collect(Collectors.toMap(FacultyEventCount::facultyId, FacultyEventCount::eventCount));
+        return faculties.stream().map(f -> toFacultyDTO(f, counts.getOrDefault(f.getId(), 0L))).toList();
+    }
+
+    private FacultyDTO toFacultyDTO(Faculty f, long assignedEventsCount) {
+        return new FacultyDTO(
                 f.getId(),
                 f.getName(),
                 f.getEmail(),
@@ -73,29 +143,46 @@ public class AdminServiceImpl implements AdminService {
                 f.getDepartment(),
                 f.getGender(),
                 f.isApproved(),
-                (f.getEventsAssigned() == null) ? 0 : f.getEventsAssigned().size()
-        )).toList();
+                (int) assignedEventsCount,
+                f.getRegisteredAt()
+        );
     }
 
     @Override
+    @Transactional
     public String approveFaculty(Long id) {
         Faculty f = facultyRepo.findById(id).orElseThrow();
         f.setApproved(true);
         facultyRepo.save(f);
-        String link = "http://localhost:5173/faculty/set-password?email=" + f.getEmail();
-        emailService.sendEmail(f.getEmail(), "Faculty Approval", "Approved! Set password: " + link);
+        emailService.sendEmail(f.getEmail(), APPROVAL_SUBJECT, APPROVAL_TEXT + f.getEmail());
+        metrics.facultyDecision("approved");
         return "Faculty approved and email sent";
     }
 
+    // Mails are queued for the still-pending rows before they flip, so re-approving sends nothing
     @Override
+    @Transactional
+    public String approveFaculties(List<Long> ids) {
+        Set<Long> pending = selection(ids);
+        emailService.sendEmailToPendingFaculty(pending, APPROVAL_SUBJECT, APPROVAL_TEXT);
+        int approved = facultyRepo.approveAll(pending);
+        metrics.facultyDecision("approved", approved);
+        return approved + " faculty approved and emails sent";
+    }
+
+    @Override
+    @Transactional
     public String rejectFaculty(Long id, String reason) {
         Faculty f = facultyRepo.findById(id).orElseThrow();
         emailService.sendEmail(f.getEmail(), "Faculty Rejected", "Reason: " + reason);
         facultyRepo.delete(f);
+        directory.removeFaculty(id);
+        metrics.facultyDecision("rejected");
         return "Faculty rejected and email sent";
     }
 
     @Override
+    @Transactional
     public FacultyDTO updateFaculty(Long id, FacultyDTO updatedFaculty) {
         Faculty saved = facultyRepo.findById(id).map(faculty -> {
             faculty.setName(updatedFaculty.getName());
@@ -106,6 +193,7 @@ public class AdminServiceImpl implements AdminService {
             faculty.setApproved(updatedFaculty.isApproved());
             return facultyRepo.save(faculty);
         }).orElseThrow(() -> new RuntimeException("Faculty not found"));
+        directory.index(saved);
 
         return new FacultyDTO(
                 saved.getId(),
@@ -115,50 +203,95 @@ public class AdminServiceImpl implements AdminService {
                 saved.getDepartment(),
                 saved.getGender(),
                 saved.isApproved(),
-                (saved.getEventsAssigned() == null) ? 0 : saved.getEventsAssigned().size()
+                (saved.getEventsAssigned() == null) ? 0 : saved.getEventsAssigned().size(),
+                saved.getRegisteredAt()
         );
     }
 
     @Override
     @Transactional
     public String deleteFaculty(Long facultyId, Long replacementFacultyId) {
-        Faculty facultyToDelete = facultyRepo.findById(facultyId).orElseThrow(() -> new RuntimeException("Faculty not found"));
-        List<Event> assignedEvents = eventRepo.findByFaculty(facultyToDelete);
+        if (!facultyRepo.existsById(facultyId)) throw new RuntimeException("Faculty not found");
+        List<Long> assignedEventIds = eventRepo.findIdsByFacultyId(facultyId);
 
-        if (!assignedEvents.isEmpty() && replacementFacultyId == null) {
+        if (!assignedEventIds.isEmpty() && replacementFacultyId == null) {
             throw new RuntimeException("Faculty has assigned events. Provide replacementFacultyId.");
         }
 
         if (replacementFacultyId != null) {
             Faculty replacementFaculty = facultyRepo.findById(replacementFacultyId).orElseThrow(() -> new RuntimeException("Replacement faculty not found"));
-            assignedEvents.forEach(e -> { e.setFaculty(replacementFaculty); eventRepo.save(e); });
+            moveEvents(facultyId, assignedEventIds, replacementFaculty);
         }
 
-        facultyRepo.delete(facultyToDelete);
+        facultyRepo.deleteFaculty(facultyId);
+        directory.removeFaculty(facultyId);
         return "Faculty deleted successfully";
     }
 
+    @Override
+    @Transactional
+    public String reassignEvents(Long fromFacultyId, Long toFacultyId) {
+        if (!facultyRepo.existsById(fromFacultyId)) throw new RuntimeException("Faculty not found");
+        Faculty to = facultyRepo.findById(toFacultyId).orElseThrow(() -> new RuntimeException("Replacement faculty not found"));
+        List<Long> eventIds = eventRepo.findIdsByFacultyId(fromFacultyId);
+        moveEvents(fromFacultyId, eventIds, to);
+        return eventIds.size() + " events reassigned";
+    }
+
+    // One UPDATE for all of the faculty member's events
+    private void moveEvents(Long fromFacultyId, List<Long> eventIds, Faculty to) {
+        if (eventIds.isEmpty()) return;
+        eventRepo.reassignAll(fromFacultyId, to);
+        analytics.reassigned(eventIds, to.getId());
+    }
+
+    @Override
+    public List<DirectoryMatch> searchFaculties(String query, Integer limit) {
+        return directory.searchFaculty(query, limit);
+    }
+
     // ------------------- STUDENT -------------------
     @Override
+@Transactional(readOnly = true)
 public List<StudentWithEventsDTO> getAllStudentsWithEvents() {
-    List<Student> students = studentRepo.findAll();
+    // Single join query; fold the per-event rows back into one DTO per student
+    Map<Long, StudentWithEventsDTO> roster = new LinkedHashMap<>();
+
+    for (StudentRosterRow row : studentRepo.findRoster()) {
+        StudentWithEventsDTO dto = roster.computeIfAbsent(row.getId(), id -> new StudentWithEventsDTO(
+                row.getId(),
+                row.getName(),
+                row.getEmail(),
+                row.getPhone(),
+                row.getDepartment(),
+                row.getGender(),
+                new ArrayList<>()
+        ));
+        if (row.getEventName() != null) dto.getRegisteredEvents().add(row.getEventName());
+    }
 
-    return students.stream().map(s -> {
-        List<String> events = studentEventRepo.findByStudent(s)
-                .stream()
-                .map(se -> se.getEvent().getName())
-                .toList();
+    return new ArrayList<>(roster.values());
+}
 
-        return new StudentWithEventsDTO(
-                s.getId(),
-                s.getName(),
-                s.getEmail(),
-                s.getPhone(),
-                s.getDepartment(),
-                s.getGender(),
-                events
-        );
-    }).toList();
+@Override
+@Transactional(readOnly = true)
+public CursorPage<StudentWithEventsDTO> getStudentsPage(String cursor, Integer limit, String sort) {
+    String sortKey = STUDENT_SORT.resolve(sort);
+    Window<Student> window = studentRepo.findBy(
+            CursorPaging.position(cursor, STUDENT_SORT, sortKey), STUDENT_SORT.sort(sortKey), CursorPaging.limit(limit));
+
+    return CursorPaging.page(window, sortKey, students -> {
+        if (students.isEmpty()) return List.of();
+        Map<Long, StudentWithEventsDTO> page = new LinkedHashMap<>();
+        for (Student s : students) {
+            page.put(s.getId(), new StudentWithEventsDTO(
+                    s.getId(), s.getName(), s.getEmail(), s.getPhone(), s.getDepartment(), s.getGender(), new ArrayList<>()));
+        }
+        for (StudentEventName row : studentEventRepo.findEventNames(page.keySet())) {
+            page.get(row.studentId()).getRegisteredEvents().add(row.eventName());
+        }
+        return new ArrayList<>(page.values());
+    });
 }
 
 
@@ -166,15 +299,18 @@ public List<StudentWithEventsDTO> getAllStudentsWithEvents() {
 @Override
 @Transactional
 public Student updateStudent(Long id, Student updatedStudent) {
-    return studentRepo.findById(id).map(student -> {
+    Student saved = studentRepo.findById(id).map(student -> {
         student.setName(updatedStudent.getName());
         student.setEmail(updatedStudent.getEmail());
         student.setPhone(updatedStudent.getPhone());
+        analytics.departmentChanged(student.getId(), student.getDepartment(), updatedStudent.getDepartment());
         student.setDepartment(updatedStudent.getDepartment());
         student.setGender(updatedStudent.getGender());
         // registeredEvents NOT updated here
         return studentRepo.save(student);
     }).orElseThrow(() -> new RuntimeException("Student not found"));
+    directory.index(saved);
+    return saved;
 }
 
 
@@ -184,22 +320,38 @@ public Student updateStudent(Long id, Student updatedStudent) {
    @Override
 @Transactional
 public String deleteStudent(Long id) {
-    Student student = studentRepo.findById(id)
-            .orElseThrow(() -> new RuntimeException("Student not found"));
+    if (removeStudents(Set.of(id)) == 0) throw new RuntimeException("Student not found");
+    return "Student and registered events deleted successfully";
+}
 
-    // Clear all registered events
-    student.getRegisteredEvents().clear();
+@Override
+@Transactional
+public String deleteStudents(List<Long> ids) {
+    return removeStudents(selection(ids)) + " students and their registrations deleted";
+}
 
-    // Delete student
-    studentRepo.delete(student);
+// Five statements however many students: their counts, student_event, the seat recount, then
+// student_events and the rows themselves (Hibernate issues both for the bulk delete)
+private int removeStudents(Set<Long> ids) {
+    List<AttendanceCount> registrations = studentEventRepo.countAttendanceByStudents(ids);
+    studentEventRepo.deleteByStudentIds(ids);
+    seatService.recount(registrations.stream().map(AttendanceCount::eventId).collect(Collectors.toSet()));
+    int deleted = studentRepo.deleteAllByIdIn(ids);
+    analytics.withdrawn(registrations);
+    directory.removeStudents(ids);
+    return deleted;
+}
 
-    return "Student and registered events deleted successfully";
+@Override
+public List<DirectoryMatch> searchStudents(String query, Integer limit) {
+    return directory.searchStudents(query, limit);
 }
 
 
 
     // ------------------- EVENT -------------------
     @Override
+    @Transactional(readOnly = true)
     public List<EventDTO> getAllEvents() {
         return eventRepo.findAll().stream().map(e -> {
             EventDTO dto = new EventDTO();
@@ -209,17 +361,42 @@ public String deleteStudent(Long id) {
             dto.setDate(e.getDate());
             dto.setVenue(e.getVenue());
             dto.setFacultyName(e.getFaculty() != null ? e.getFaculty().getName() : "Unassigned");
+            dto.setStartTime(e.getStartTime());
+            dto.setEndTime(e.getEndTime());
             return dto;
         }).toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EventDTO> getEventsPage(String cursor, Integer limit, String sort) {
+        String sortKey = EVENT_SORT.resolve(sort);
+        Window<Event> window = eventRepo.findBy(
+                CursorPaging.position(cursor, EVENT_SORT, sortKey), EVENT_SORT.sort(sortKey), CursorPaging.limit(limit));
+
+        return CursorPaging.page(window, sortKey, events -> events.stream().map(e -> {
+            EventDTO dto = new EventDTO();
+            dto.setId(e.getId());
+            dto.setName(e.getName());
+            dto.setDescription(e.getDescription());
+            dto.setDate(e.getDate());
+            dto.setVenue(e.getVenue());
+            dto.setFacultyName(e.getFaculty() != null ? e.getFaculty().getName() : "Unassigned");
+            dto.setStartTime(e.getStartTime());
+            dto.setEndTime(e.getEndTime());
+            return dto;
+        }).toList());
+    }
+
+    @Override
+    @Transactional
     public Event addEvent(Map<String, Object> body) {
         Event event = new Event();
         event.setName((String) body.get("name"));
         event.setVenue((String) body.get("venue"));
-        event.setDate((String) body.get("date"));
+        EventTimes.apply(event, body);
         event.setDescription((String) body.get("description"));
+        event.setCapacity(parseCapacity(body.get("capacity")));
 
         event.setFaculty(null);
         if (body.containsKey("facultyId")) {
@@ -227,37 +404,74 @@ public String deleteStudent(Long id) {
             event.setFaculty(facultyId != null ? facultyRepo.findById(facultyId).orElse(null) : null);
         }
 
-        return eventRepo.save(event);
+        Event saved = eventRepo.save(event);
+        seatService.track(saved.getId());
+        searchIndex.index(saved);
+        analytics.assigned(saved.getId(), saved.getFaculty() != null ? saved.getFaculty().getId() : null);
+        return saved;
     }
 
     @Override
+    @Transactional
     public Event updateEvent(Long id, Map<String, Object> body) {
         Event event = eventRepo.findById(id).orElseThrow(() -> new RuntimeException("Event not found"));
 
         if (body.containsKey("name")) event.setName((String) body.get("name"));
         if (body.containsKey("venue")) event.setVenue((String) body.get("venue"));
-        if (body.containsKey("date")) event.setDate((String) body.get("date"));
+        EventTimes.apply(event, body);
         if (body.containsKey("description")) event.setDescription((String) body.get("description"));
+        if (body.containsKey("capacity")) event.setCapacity(parseCapacity(body.get("capacity")));
         if (body.containsKey("facultyId")) {
             Long facultyId = body.get("facultyId") != null ? Long.valueOf(body.get("facultyId").toString()) : null;
             event.setFaculty(facultyId != null ? facultyRepo.findById(facultyId).orElse(null) : null);
         }
 
-        return eventRepo.save(event);
+        Event saved = eventRepo.save(event);
+        searchIndex.index(saved);
+        analytics.assigned(saved.getId(), saved.getFaculty() != null ? saved.getFaculty().getId() : null);
+        return saved;
     }
 
     @Override
     @Transactional
     public String deleteEvent(Long id) {
-        Event event = eventRepo.findById(id).orElseThrow(() -> new RuntimeException("Event not found"));
-        studentEventRepo.deleteByEvent(event);
-        event.setFaculty(null);
-        eventRepo.save(event);
-        eventRepo.delete(event);
+        if (removeEvents(Set.of(id)) == 0) throw new RuntimeException("Event not found");
         return "Event deleted successfully";
     }
 
     @Override
+    @Transactional
+    public String deleteEvents(List<Long> ids) {
+        return removeEvents(selection(ids)) + " events deleted";
+    }
+
+    // Five statements however many events: their counts, both registration tables, the seat rows, the events
+    private int removeEvents(Set<Long> ids) {
+        analytics.deleted(ids, studentEventRepo.countAttendanceByEvents(ids));
+        studentRepo.deleteLegacyRegistrationsByEventIds(ids);
+        studentEventRepo.deleteByEventIds(ids);
+        seatService.forget(ids);
+        int deleted = eventRepo.deleteAllByIdIn(ids);
+        searchIndex.removeAll(ids);
+        return deleted;
+    }
+
+    private static Set<Long> selection(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) throw new RuntimeException("No ids given");
+        Set<Long> unique = new LinkedHashSet<>(ids);
+        unique.remove(null);
+        return unique;
+    }
+
+    private Integer parseCapacity(Object value) {
+        if (value == null || value.toString().isBlank()) return null;
+        int capacity = Integer.parseInt(value.toString());
+        if (capacity < 0) throw new RuntimeException("Capacity cannot be negative");
+        return capacity;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<StudentAttendanceDTO> getStudentsByEvent(Long eventId) {
         Event event = eventRepo.findById(eventId).orElseThrow(() -> new RuntimeException("Event not found"));
         return studentEventRepo.findByEvent(event).stream().map(se -> {
@@ -267,11 +481,46 @@ public String deleteStudent(Long id) {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<StudentAttendanceDTO> getStudentsByEventPage(Long eventId, String cursor, Integer limit, String sort) {
+        if (!eventRepo.existsById(eventId)) throw new RuntimeException("Event not found");
+
+        String sortKey = EVENT_STUDENT_SORT.resolve(sort);
+        Window<StudentEvent> window = studentEventRepo.findByEventId(eventId,
+                CursorPaging.position(cursor, EVENT_STUDENT_SORT, sortKey), EVENT_STUDENT_SORT.sort(sortKey), CursorPaging.limit(limit));
+
+        return CursorPaging.page(window, sortKey, regs -> regs.stream().map(se -> {
+            Student s = se.getStudent();
+            return new StudentAttendanceDTO(s.getId(), s.getName(), s.getEmail(), s.getPhone(), s.getDepartment(), se.getAttendance());
+        }).toList());
+    }
+
+    @Override
+    @Transactional
     public String reassignEvent(Long eventId, Long newFacultyId) {
         Event event = eventRepo.findById(eventId).orElseThrow(() -> new RuntimeException("Event not found"));
         Faculty faculty = facultyRepo.findById(newFacultyId).orElseThrow(() -> new RuntimeException("Faculty not found"));
         event.setFaculty(faculty);
         eventRepo.save(event);
+        analytics.assigned(eventId, newFacultyId);
         return "Event reassigned successfully";
     }
+
+    @Override
+    public SseEmitter subscribeToAttendance(Long eventId) {
+        if (!eventRepo.existsById(eventId)) throw PortalException.notFound("Event not found");
+        return feed.subscribe(List.of(eventId));
+    }
+
+    @Override
+    public AttendanceOverview getAttendanceOverview() {
+        return analytics.overview();
+    }
+
+    @Override
+    public AttendanceStats getEventAttendance(Long eventId) {
+        AttendanceStats stats = analytics.event(eventId);
+        if (stats == null) throw new RuntimeException("Event not found");
+        return stats;
+    }
 }
@@ -0,0 +1,25 @@
+package com.act.backend.services;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Defers in-memory index and counter changes until the database write behind them has committed. */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /** Runs the change once the surrounding transaction commits, or now when there is none. */
+    static void run(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.AttendanceCount;
+import com.act.backend.dto.AttendanceOverview;
+import com.act.backend.dto.AttendanceStats;
+import com.act.backend.dto.EventOwner;
+import com.act.backend.dto.RegistrationState;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Attendance totals per event, per student department and per faculty member, kept in memory.
+ * <p>
+ * The counters are loaded with one grouped query at startup and then moved by the write paths
+ * (register, unregister, attendance marks, event deletes and reassignments) once their
+ * transaction commits, so reading them never touches student_event. Anything written behind
+ * those paths is picked up by the periodic recount ({@code portal.analytics.resync-interval-ms});
+ * a write that lands while a recount is running may be off until the next one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceAnalytics {
+
+    static final String NO_DEPARTMENT = "Unspecified";
+
+    private final StudentEventRepository studentEventRepo;
+    private final EventRepository eventRepo;
+
+    private final Tally totals = new Tally();
+    private final Map<Long, Tally> events = new HashMap<>();
+    private final Map<String, Tally> departments = new HashMap<>();
+    private final Map<Long, Tally> faculties = new HashMap<>();
+    private final Map<Long, Long> eventFaculty = new HashMap<>();
+    private final Map<Long, Set<Long>> facultyEvents = new HashMap<>();
+
+    private static final class Tally {
+        long registered, present, absent;
+
+        void add(Boolean attendance, long n) {
+            registered += n;
+            if (Boolean.TRUE.equals(attendance)) present += n;
+            else if (Boolean.FALSE.equals(attendance)) absent += n;
+        }
+
+        void reset() {
+            registered = present = absent = 0;
+        }
+
+        void add(Tally other, int sign) {
+            registered += sign * other.registered;
+            present += sign * other.present;
+            absent += sign * other.absent;
+        }
+
+        AttendanceStats stats(String key) {
+            long marked = present + absent;
+            return new AttendanceStats(key, registered, present, absent, registered - marked,
+                    marked == 0 ? 0 : (double) present / marked);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${portal.analytics.resync-interval-ms:3600000}",
+            fixedDelayString = "${portal.analytics.resync-interval-ms:3600000}")
+    public void rebuild() {
+        List<EventOwner> owners = eventRepo.findOwners();
+        List<AttendanceCount> counts = studentEventRepo.countAttendance();
+        synchronized (this) {
+            totals.reset();
+            events.clear();
+            departments.clear();
+            faculties.clear();
+            eventFaculty.clear();
+            facultyEvents.clear();
+            owners.forEach(o -> assignLocked(o.eventId(), o.facultyId()));
+            counts.forEach(c -> countLocked(c.eventId(), c.department(), c.attendance(), c.count()));
+        }
+        log.info("Loaded attendance analytics for {} events", owners.size());
+    }
+
+    // ---------------- writes, applied after commit ----------------
+
+    public void registered(Long eventId, String department) {
+        AfterCommit.run(() -> count(eventId, department, null, 1));
+    }
+
+    public void unregistered(Long eventId, RegistrationState state) {
+        AfterCommit.run(() -> count(eventId, state.department(), state.attendance(), -1));
+    }
+
+    /** Moves each student's registration from its old attendance state to the new one. */
+    public void marked(Long eventId, Collection<RegistrationState> before, Boolean present) {
+        List<RegistrationState> changed = before.stream()
+                .filter(s -> !Objects.equals(present, s.attendance()))
+                .toList();
+        if (changed.isEmpty()) return;
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                for (RegistrationState s : changed) {
+                    countLocked(eventId, s.department(), s.attendance(), -1);
+                    countLocked(eventId, s.department(), present, 1);
+                }
+            }
+        });
+    }
+
+    public void assigned(Long eventId, Long facultyId) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                assignLocked(eventId, facultyId);
+            }
+        });
+    }
+
+    public void reassigned(Collection<Long> eventIds, Long facultyId) {
+        if (eventIds.isEmpty()) return;
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                eventIds.forEach(id -> assignLocked(id, facultyId));
+            }
+        });
+    }
+
+    /** {@code registrations} is the events' {@link StudentEventRepository#countAttendanceByEvents} before the delete. */
+    public void deleted(Collection<Long> eventIds, List<AttendanceCount> registrations) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                registrations.forEach(c -> countLocked(c.eventId(), c.department(), c.attendance(), -c.count()));
+                for (Long eventId : eventIds) {
+                    assignLocked(eventId, null);
+                    events.remove(eventId);
+                    eventFaculty.remove(eventId);
+                }
+            }
+        });
+    }
+
+    /** Takes back registrations deleted along with their students; see {@link StudentEventRepository#countAttendanceByStudents}. */
+    public void withdrawn(List<AttendanceCount> registrations) {
+        if (registrations.isEmpty()) return;
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                registrations.forEach(c -> countLocked(c.eventId(), c.department(), c.attendance(), -c.count()));
+            }
+        });
+    }
+
+    /** Moves a student's registrations to their new department; call before saving the change. */
+    public void departmentChanged(Long studentId, String from, String to) {
+        if (Objects.equals(department(from), department(to))) return;
+        List<AttendanceCount> registrations = studentEventRepo.countAttendanceByStudent(studentId);
+        if (registrations.isEmpty()) return;
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                for (AttendanceCount c : registrations) {
+                    tally(departments, department(from)).add(c.attendance(), -c.count());
+                    tally(departments, department(to)).add(c.attendance(), c.count());
+                }
+            }
+        });
+    }
+
+    // ---------------- reads ----------------
+
+    public synchronized AttendanceOverview overview() {
+        return new AttendanceOverview(totals.stats(null),
+                stats(events), stats(departments), stats(faculties));
+    }
+
+    /** Null for an event the counters have never seen. */
+    public synchronized AttendanceStats event(Long eventId) {
+        if (!eventFaculty.containsKey(eventId)) return null;
+        return events.getOrDefault(eventId, new Tally()).stats(String.valueOf(eventId));
+    }
+
+    /** One faculty member's totals, with a line for each event assigned to them. */
+    public synchronized AttendanceOverview faculty(Long facultyId) {
+        List<AttendanceStats> own = facultyEvents.getOrDefault(facultyId, Set.of()).stream()
+                .sorted()
+                .map(id -> events.getOrDefault(id, new Tally()).stats(String.valueOf(id)))
+                .toList();
+        return new AttendanceOverview(faculties.getOrDefault(facultyId, new Tally()).stats(String.valueOf(facultyId)),
+                own, List.of(), List.of());
+    }
+
+    // ---------------- internals; callers hold the monitor ----------------
+
+    private synchronized void count(Long eventId, String department, Boolean attendance, long n) {
+        countLocked(eventId, department, attendance, n);
+    }
+
+    private void countLocked(Long eventId, String department, Boolean attendance, long n) {
+        totals.add(attendance, n);
+        tally(events, eventId).add(attendance, n);
+        tally(departments, department(department)).add(attendance, n);
+        Long facultyId = eventFaculty.get(eventId);
+        if (facultyId != null) tally(faculties, facultyId).add(attendance, n);
+    }
+
+    private void assignLocked(Long eventId, Long facultyId) {
+        Long previous = eventFaculty.put(eventId, facultyId);
+        if (Objects.equals(previous, facultyId)) return;
+        Tally event = events.get(eventId);
+        if (previous != null) {
+            if (event != null) tally(faculties, previous).add(event, -1);
+            Set<Long> owned = facultyEvents.get(previous);
+            if (owned != null) owned.remove(eventId);
+        }
+        if (facultyId != null) {
+            if (event != null) tally(faculties, facultyId).add(event, 1);
+            facultyEvents.computeIfAbsent(facultyId, k -> new HashSet<>()).add(eventId);
+        }
+    }
+
+    private static <K> Tally tally(Map<K, Tally> map, K key) {
+        return map.computeIfAbsent(key, k -> new Tally());
+    }
+
+    private static String department(String department) {
+        return department == null || department.isBlank() ? NO_DEPARTMENT : department.trim();
+    }
+
+    private static <K> List<AttendanceStats> stats(Map<K, Tally> map) {
+        return map.entrySet().stream()
+                .filter(e -> e.getValue().registered > 0)
+                .map(e -> e.getValue().stats(String.valueOf(e.getKey())))
+                .sorted(Comparator.comparingLong(AttendanceStats::registered).reversed()
+                        .thenComparing(AttendanceStats::key))
+                .toList();
+    }
+}
@@ -0,0 +1,198 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.AttendanceDelta;
+import com.act.backend.dto.StudentAttendanceDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live roster changes per event, pushed to admin and faculty dashboards as Server-Sent Events.
+ * <p>
+ * Connections are async servlet requests, so an open feed holds no request thread. Each
+ * subscriber gets a queue of at most {@code portal.feed.buffer-size} pending events, drained by a
+ * small shared pool of {@code portal.feed.senders} threads. A subscriber that falls a full buffer
+ * behind loses what is queued and is sent a {@code resync} event instead, telling the client to
+ * re-fetch the roster once; a slow client never holds memory or stalls the others. Idle feeds get
+ * a comment line every {@code portal.feed.heartbeat-ms} so proxies keep them open, and a
+ * connection is closed after {@code portal.feed.timeout}, which EventSource reconnects from.
+ * <p>
+ * Deltas are published after the writing transaction commits. The set of events a subscriber
+ * follows is fixed when it connects.
+ */
+@Component
+public class AttendanceFeed {
+
+    static final String READY = "ready";
+    static final String RESYNC = "resync";
+
+    private final PortalMetrics metrics;
+    private final ExecutorService senders;
+    private final int bufferSize;
+    private final Duration timeout;
+
+    private final Map<Long, Set<Subscriber>> byEvent = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public AttendanceFeed(PortalMetrics metrics,
+                          @Value("${portal.feed.buffer-size:256}") int bufferSize,
+                          @Value("${portal.feed.senders:2}") int senders,
+                          @Value("${portal.feed.timeout:30m}") Duration timeout) {
+        this.metrics = metrics;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.senders = Executors.newFixedThreadPool(senders, Thread.ofPlatform().name("attendance-feed-", 0).factory());
+        metrics.feedSubscribers(this);
+    }
+
+    private final class Subscriber {
+        final SseEmitter emitter;
+        final Set<Long> eventIds;
+        final BlockingQueue<Set<DataWithMediaType>> pending;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, Set<Long> eventIds) {
+            this.emitter = emitter;
+            this.eventIds = eventIds;
+            this.pending = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    public SseEmitter subscribe(Collection<Long> eventIds) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber s = new Subscriber(emitter, Set.copyOf(eventIds));
+        emitter.onCompletion(() -> remove(s));
+        emitter.onTimeout(() -> remove(s));
+        emitter.onError(e -> remove(s));
+
+        subscribers.add(s);
+        for (Long id : s.eventIds) {
+            // add inside compute so a concurrent remove can't drop the set out from under us
+            byEvent.compute(id, (k, set) -> {
+                if (set == null) set = ConcurrentHashMap.newKeySet();
+                set.add(s);
+                return set;
+            });
+        }
+        enqueue(s, event(READY, Map.of("eventIds", s.eventIds)));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // ---------------- deltas, delivered after commit ----------------
+
+    public void registered(Long eventId, StudentAttendanceDTO student) {
+        publish(new AttendanceDelta(AttendanceDelta.REGISTERED, eventId, List.of(student.getStudentId()), null, student));
+    }
+
+    public void unregistered(Long eventId, Long studentId) {
+        publish(new AttendanceDelta(AttendanceDelta.UNREGISTERED, eventId, List.of(studentId), null, null));
+    }
+
+    public void marked(Long eventId, List<Long> studentIds, Boolean present) {
+        if (studentIds.isEmpty()) return;
+        publish(new AttendanceDelta(AttendanceDelta.ATTENDANCE, eventId, List.copyOf(studentIds), present, null));
+    }
+
+    private void publish(AttendanceDelta delta) {
+        AfterCommit.run(() -> {
+            Set<Subscriber> following = byEvent.get(delta.eventId());
+            if (following == null || following.isEmpty()) return;
+            Set<DataWithMediaType> event = event(delta.type(), delta);
+            following.forEach(s -> enqueue(s, event));
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${portal.feed.heartbeat-ms:15000}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("heartbeat").build();
+        for (Subscriber s : subscribers) {
+            if (s.pending.isEmpty()) enqueue(s, ping);
+        }
+    }
+
+    // ---------------- delivery ----------------
+
+    private Set<DataWithMediaType> event(String name, Object data) {
+        // built once and shared by every subscriber of the event
+        return SseEmitter.event()
+                .id(String.valueOf(sequence.incrementAndGet()))
+                .name(name)
+                .data(data, MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private void enqueue(Subscriber s, Set<DataWithMediaType> event) {
+        if (s.closed) return;
+        if (!s.pending.offer(event)) {
+            s.pending.clear();
+            s.pending.offer(event(RESYNC, Map.of("eventIds", s.eventIds)));
+            metrics.feedOverflow();
+        }
+        schedule(s);
+    }
+
+    private void schedule(Subscriber s) {
+        if (s.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(s));
+            } catch (RejectedExecutionException e) {
+                s.draining.set(false);  // shutting down
+            }
+        }
+    }
+
+    private void drain(Subscriber s) {
+        try {
+            Set<DataWithMediaType> event;
+            while (!s.closed && (event = s.pending.poll()) != null) {
+                s.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // client went away or the emitter already completed
+            remove(s);
+            s.emitter.completeWithError(e);
+        } finally {
+            s.draining.set(false);
+        }
+        // an enqueue that lost the race with the flag above would otherwise wait for the next one
+        if (!s.closed && !s.pending.isEmpty()) schedule(s);
+    }
+
+    private void remove(Subscriber s) {
+        s.closed = true;
+        subscribers.remove(s);
+        for (Long id : s.eventIds) {
+            byEvent.computeIfPresent(id, (k, set) -> {
+                set.remove(s);
+                return set.isEmpty() ? null : set;
+            });
+        }
+        s.pending.clear();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdown();
+        for (Subscriber s : List.copyOf(subscribers)) {
+            remove(s);
+            s.emitter.complete();
+        }
+    }
+}
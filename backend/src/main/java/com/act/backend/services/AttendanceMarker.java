@@ -0,0 +1,54 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.RegistrationState;
+import com.act.backend.repositories.StudentEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Set-based attendance writes for many students of one event, shared by faculty bulk marking and
+ * self check-in. Students are handled in chunks: one query reads which of them are registered
+ * (with their current state for the analytics counters), then one UPDATE per outcome. Call it
+ * inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceMarker {
+
+    // Keeps IN lists well inside driver/database limits for very large events
+    static final int CHUNK_SIZE = 1000;
+
+    private final StudentEventRepository studentEventRepo;
+    private final AttendanceAnalytics analytics;
+    private final AttendanceFeed feed;
+
+    /** Applies each student's mark if they are registered for the event; returns the ids that were. */
+    public Set<Long> mark(Long eventId, Map<Long, Boolean> requested) {
+        Set<Long> registered = new HashSet<>();
+        List<Long> ids = new ArrayList<>(requested.keySet());
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            List<RegistrationState> states = studentEventRepo.findRegistrationStates(eventId, chunk);
+
+            List<Long> present = new ArrayList<>();
+            List<Long> absent = new ArrayList<>();
+            List<RegistrationState> markedPresent = new ArrayList<>();
+            List<RegistrationState> markedAbsent = new ArrayList<>();
+            for (RegistrationState state : states) {
+                registered.add(state.studentId());
+                boolean mark = requested.get(state.studentId());
+                (mark ? present : absent).add(state.studentId());
+                (mark ? markedPresent : markedAbsent).add(state);
+            }
+            if (!present.isEmpty()) studentEventRepo.updateAttendance(eventId, present, true);
+            if (!absent.isEmpty()) studentEventRepo.updateAttendance(eventId, absent, false);
+            analytics.marked(eventId, markedPresent, true);
+            analytics.marked(eventId, markedAbsent, false);
+            feed.marked(eventId, present, true);
+            feed.marked(eventId, absent, false);
+        }
+        return registered;
+    }
+}
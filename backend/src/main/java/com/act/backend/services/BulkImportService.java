@@ -0,0 +1,251 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.DirectoryMatch;
+import com.act.backend.dto.ImportReport;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Bulk onboarding of students and faculty from CSV.
+ * <p>
+ * The upload is parsed record by record and handled in chunks of {@code portal.import.batch-size}
+ * rows. Each chunk checks its e-mails against the database with a single IN query, inserts the
+ * rows that pass with one JDBC batch, and commits before the next chunk is read. A bad row never
+ * blocks the rest; it is reported with its line number. A problem with the file itself (more than
+ * {@code portal.import.max-rows} rows, broken quoting, a read error) or a chunk that fails to
+ * commit stops the import. Chunks committed by then stay, so the report comes back with
+ * {@code fatalError} set rather than as an error. On MySQL, add
+ * {@code rewriteBatchedStatements=true} to the JDBC URL so that a batch goes out as multi-row
+ * INSERTs.
+ * <p>
+ * The header row names the columns, in any order and case-insensitively: name, email, phone,
+ * department and gender, plus password for students. Name and e-mail are required, and so is
+ * the password for students. Imported faculty join the approval queue like self-registered ones.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    static final int MAX_REPORTED_ERRORS = 500;
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final TransactionTemplate tx;
+    private final EntityManagerFactory emf;
+    private final DirectorySearch directory;
+
+    @Value("${portal.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${portal.import.max-rows:100000}")
+    private long maxRows;
+
+    public ImportReport importStudents(InputStream csv) {
+        return importCsv(csv, Kind.STUDENT);
+    }
+
+    public ImportReport importFaculties(InputStream csv) {
+        ImportReport report = importCsv(csv, Kind.FACULTY);
+        // Rows went in behind Hibernate's back; drop cached directory queries so listings see them
+        if (report.imported() > 0) emf.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        return report;
+    }
+
+    private enum Kind {
+        STUDENT("student", "INSERT INTO student (name, email, phone, department, gender, password) VALUES (?, ?, ?, ?, ?, ?)"),
+        FACULTY("faculty", "INSERT INTO faculty (name, email, phone, department, gender, approved, registered_at) VALUES (?, ?, ?, ?, ?, false, ?)");
+
+        final String table;
+        final String insert;
+
+        Kind(String table, String insert) {
+            this.table = table;
+            this.insert = insert;
+        }
+    }
+
+    private record Row(long line, String name, String email, String phone, String department, String gender, String password) {}
+
+    private ImportReport importCsv(InputStream csv, Kind kind) {
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        Progress progress = new Progress();
+        List<String> header;
+        try {
+            header = reader.next();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read CSV: " + e.getMessage());
+        }
+        if (header == null) throw new RuntimeException("CSV is empty");
+        Map<String, Integer> columns = columns(header);
+        for (String required : kind == Kind.STUDENT ? List.of("name", "email", "password") : List.of("name", "email")) {
+            if (!columns.containsKey(required)) throw new RuntimeException("Missing column: " + required);
+        }
+
+        // E-mails already taken by an earlier row of this file (lower-cased)
+        Set<String> seen = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(batchSize);
+        String fatal = null;
+        while (fatal == null) {
+            List<String> record;
+            try {
+                record = reader.next();
+            } catch (IOException e) {
+                fatal = "Could not read CSV: " + e.getMessage();
+                break;
+            }
+            if (record == null) break;
+            if (progress.rows == maxRows) {
+                fatal = "CSV has more than " + maxRows + " rows; stopped at line " + reader.line();
+                break;
+            }
+            progress.rows++;
+            Row row = toRow(reader.line(), record, columns);
+            String problem = validate(row, kind);
+            if (problem == null && !seen.add(row.email().toLowerCase(Locale.ROOT))) problem = "Duplicate email in file";
+            if (problem != null) {
+                progress.reject(row.line(), row.email(), problem);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == batchSize) fatal = flush(chunk, kind, progress);
+        }
+        // Rows read before a bad stretch of the file are still imported
+        String last = flush(chunk, kind, progress);
+        if (fatal == null) fatal = last;
+
+        if (fatal != null) log.warn("{} import stopped after {} rows: {}", kind.table, progress.rows, fatal);
+        log.info("Imported {} of {} {} rows", progress.imported, progress.rows, kind.table);
+        return new ImportReport(progress.rows, progress.imported, progress.rejected,
+                progress.errors, progress.rejected > progress.errors.size(), fatal);
+    }
+
+    // Commits one chunk and empties it; returns why the import has to stop, or null
+    private String flush(List<Row> chunk, Kind kind, Progress progress) {
+        if (chunk.isEmpty()) return null;
+        try {
+            insert(chunk, kind, progress);
+            return null;
+        } catch (RuntimeException e) {
+            return "Could not save the rows from line " + chunk.get(0).line() + " on: "
+                    + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        } finally {
+            chunk.clear();
+        }
+    }
+
+    private void insert(List<Row> chunk, Kind kind, Progress progress) {
+        List<Row> fresh = tx.execute(status -> {
+            Set<String> taken = existingEmails(kind, chunk);
+            List<Row> insert = new ArrayList<>(chunk.size());
+            for (Row row : chunk) {
+                if (taken.contains(row.email().toLowerCase(Locale.ROOT))) {
+                    progress.reject(row.line(), row.email(), "Email already exists");
+                } else {
+                    insert.add(row);
+                }
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbc.batchUpdate(kind.insert, insert, insert.size(), (ps, row) -> {
+                ps.setString(1, row.name());
+                ps.setString(2, row.email());
+                ps.setString(3, row.phone());
+                ps.setString(4, row.department());
+                ps.setString(5, row.gender());
+                if (kind == Kind.STUDENT) ps.setString(6, row.password());
+                else ps.setTimestamp(6, now);
+            });
+            return insert;
+        });
+
+        progress.imported += fresh.size();
+        index(kind, fresh);
+    }
+
+    private Set<String> existingEmails(Kind kind, List<Row> chunk) {
+        List<String> emails = chunk.stream().map(Row::email).toList();
+        Set<String> taken = new HashSet<>();
+        namedJdbc.query("SELECT email FROM " + kind.table + " WHERE email IN (:emails)", Map.of("emails", emails),
+                rs -> {
+                    taken.add(rs.getString(1).toLowerCase(Locale.ROOT));
+                });
+        return taken;
+    }
+
+    // Batched inserts don't hand back IDENTITY keys, so read the new ids back for the typeahead index
+    private void index(Kind kind, List<Row> inserted) {
+        if (inserted.isEmpty()) return;
+        List<DirectoryMatch> entries = namedJdbc.query(
+                "SELECT id, name, email, department FROM " + kind.table + " WHERE email IN (:emails)",
+                Map.of("emails", inserted.stream().map(Row::email).toList()),
+                (rs, i) -> new DirectoryMatch(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)));
+        if (kind == Kind.STUDENT) directory.indexStudents(entries);
+        else directory.indexFaculty(entries);
+    }
+
+    private static Map<String, Integer> columns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        return columns;
+    }
+
+    private static Row toRow(long line, List<String> record, Map<String, Integer> columns) {
+        return new Row(line,
+                field(record, columns, "name"),
+                field(record, columns, "email"),
+                field(record, columns, "phone"),
+                field(record, columns, "department"),
+                field(record, columns, "gender"),
+                field(record, columns, "password"));
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer at = columns.get(name);
+        if (at == null || at >= record.size()) return null;
+        String value = record.get(at).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String validate(Row row, Kind kind) {
+        if (row.name() == null) return "Name is required";
+        if (row.email() == null) return "Email is required";
+        if (!EMAIL.matcher(row.email()).matches()) return "Invalid email";
+        if (kind == Kind.STUDENT && row.password() == null) return "Password is required";
+        if (Stream.of(row.name(), row.email(), row.phone(), row.department(), row.gender(), row.password())
+                .anyMatch(v -> v != null && v.length() > 255)) return "Value too long";
+        return null;
+    }
+
+    private static final class Progress {
+        long rows, imported, rejected;
+        final List<ImportReport.RowError> errors = new ArrayList<>();
+
+        void reject(long line, String email, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new ImportReport.RowError(line, email, message));
+        }
+    }
+}
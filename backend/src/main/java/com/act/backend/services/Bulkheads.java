@@ -0,0 +1,137 @@
+package com.act.backend.services;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limits per workload class, so one kind of slow work cannot take every thread (or,
+ * on virtual threads, every database connection) from the rest.
+ * <p>
+ * Each workload has {@code portal.bulkhead.<workload>.max-concurrent} permits. A caller that finds
+ * none free waits up to {@code portal.bulkhead.<workload>.max-wait} (default
+ * {@code portal.bulkhead.max-wait}) and is then turned away with {@link Full}. With
+ * {@code portal.bulkhead.enabled=false} every acquire succeeds at once. Limits, in-flight and
+ * queued counts, wait times and rejections are published as {@code portal.bulkhead.*} metrics.
+ */
+@Component
+public class Bulkheads {
+
+    public enum Workload {
+        AUTH(64), CATALOG(128), REGISTRATION(64), ATTENDANCE(32), REPORTING(8), MAIL(4);
+
+        final int defaultLimit;
+
+        Workload(int defaultLimit) {
+            this.defaultLimit = defaultLimit;
+        }
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /** Thrown when no permit frees up within the workload's max-wait. */
+    public static class Full extends RuntimeException {
+        public Full(Workload workload) {
+            super("Too many " + workload.tag() + " requests in progress, try again shortly");
+        }
+    }
+
+    public static final class Bulkhead {
+        private final Workload workload;
+        private final int limit;
+        private final Duration maxWait;
+        private final Semaphore permits;
+        private final AtomicInteger queued = new AtomicInteger();
+
+        Bulkhead(Workload workload, int limit, Duration maxWait) {
+            this.workload = workload;
+            this.limit = limit;
+            this.maxWait = maxWait;
+            this.permits = new Semaphore(limit);
+        }
+
+        public int limit() {
+            return limit;
+        }
+
+        public int inFlight() {
+            return limit - permits.availablePermits();
+        }
+
+        public int queued() {
+            return queued.get();
+        }
+    }
+
+    /** Held for the duration of the work; closing it more than once is harmless. */
+    public static final class Permit implements AutoCloseable {
+        private static final Permit NONE = new Permit(null);
+
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() {
+            if (permits != null && released.compareAndSet(false, true)) permits.release();
+        }
+    }
+
+    private final boolean enabled;
+    private final PortalMetrics metrics;
+    private final Map<Workload, Bulkhead> bulkheads = new EnumMap<>(Workload.class);
+
+    public Bulkheads(Environment env, PortalMetrics metrics) {
+        this.enabled = env.getProperty("portal.bulkhead.enabled", Boolean.class, true);
+        this.metrics = metrics;
+        Duration defaultWait = env.getProperty("portal.bulkhead.max-wait", Duration.class, Duration.ofMillis(500));
+        for (Workload w : Workload.values()) {
+            String prefix = "portal.bulkhead." + w.tag();
+            Bulkhead bulkhead = new Bulkhead(w,
+                    env.getProperty(prefix + ".max-concurrent", Integer.class, w.defaultLimit),
+                    env.getProperty(prefix + ".max-wait", Duration.class, defaultWait));
+            bulkheads.put(w, bulkhead);
+            metrics.bulkhead(w.tag(), bulkhead);
+        }
+    }
+
+    public Bulkhead get(Workload workload) {
+        return bulkheads.get(workload);
+    }
+
+    public Permit acquire(Workload workload) {
+        if (!enabled) return Permit.NONE;
+        Bulkhead b = bulkheads.get(workload);
+        if (b.permits.tryAcquire()) {
+            return new Permit(b.permits);
+        }
+
+        Timer.Sample sample = metrics.start();
+        b.queued.incrementAndGet();
+        boolean acquired = false;
+        try {
+            acquired = b.permits.tryAcquire(b.maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            b.queued.decrementAndGet();
+            metrics.bulkheadWait(sample, workload.tag(), acquired);
+        }
+        if (!acquired) throw new Full(workload);
+        return new Permit(b.permits);
+    }
+}
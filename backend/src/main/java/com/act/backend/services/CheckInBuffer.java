@@ -0,0 +1,120 @@
+package com.act.backend.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Collects student self check-ins in memory and writes them to student_event in batches.
+ * <p>
+ * Accepting a check-in only adds the student to a per-event set, so repeats collapse and the
+ * request never waits for the database. Every {@code portal.check-in.flush-interval-ms}, or as
+ * soon as {@code portal.check-in.batch-size} check-ins are waiting, each event's set is marked
+ * present through {@link AttendanceMarker} in one transaction. Check-ins from students who are
+ * not registered for the event are dropped there and counted, which is why a check-in is only
+ * reported as queued. A failed write puts the batch back for the next flush. Flushes run on the
+ * buffer's own thread, not the shared scheduler, so slow mail or feed work cannot hold them up.
+ * Check-ins accepted but not yet flushed are lost if the process dies, so the interval bounds what
+ * a crash can cost.
+ */
+@Slf4j
+@Component
+public class CheckInBuffer {
+
+    private final AttendanceMarker marker;
+    private final TransactionTemplate tx;
+    private final PortalMetrics metrics;
+    private final int batchSize;
+    private final ScheduledExecutorService flusher =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("check-in-flush").factory());
+
+    // Adders share the read lock; a flush takes the write lock just long enough to swap the map
+    private final ReadWriteLock swap = new ReentrantReadWriteLock();
+    private Map<Long, Set<Long>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+
+    public CheckInBuffer(AttendanceMarker marker, TransactionTemplate tx, PortalMetrics metrics,
+                         @Value("${portal.check-in.batch-size:500}") int batchSize,
+                         @Value("${portal.check-in.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.marker = marker;
+        this.tx = tx;
+        this.metrics = metrics;
+        this.batchSize = batchSize;
+        flusher.scheduleWithFixedDelay(this::scheduledFlush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void add(Long eventId, Long studentId) {
+        if (put(eventId, studentId) && size.get() >= batchSize && flushQueued.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    private boolean put(Long eventId, Long studentId) {
+        swap.readLock().lock();
+        try {
+            boolean added = pending.computeIfAbsent(eventId, k -> ConcurrentHashMap.newKeySet()).add(studentId);
+            if (added) size.incrementAndGet();
+            return added;
+        } finally {
+            swap.readLock().unlock();
+        }
+    }
+
+    public int pending() {
+        return size.get();
+    }
+
+    // An exception escaping here would cancel every later run
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Check-in flush failed", e);
+        }
+    }
+
+    public synchronized void flush() {
+        flushQueued.set(false);
+        Map<Long, Set<Long>> batch;
+        swap.writeLock().lock();
+        try {
+            if (pending.isEmpty()) return;
+            batch = pending;
+            pending = new ConcurrentHashMap<>();
+            size.set(0);
+        } finally {
+            swap.writeLock().unlock();
+        }
+
+        batch.forEach((eventId, studentIds) -> {
+            Map<Long, Boolean> present = new LinkedHashMap<>();
+            studentIds.forEach(id -> present.put(id, true));
+            try {
+                Set<Long> registered = tx.execute(status -> marker.mark(eventId, present));
+                metrics.checkInsFlushed(registered.size(), present.size() - registered.size());
+            } catch (RuntimeException e) {
+                log.warn("Could not write {} check-ins for event {}, retrying on the next flush", present.size(), eventId, e);
+                studentIds.forEach(id -> put(eventId, id));
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+}
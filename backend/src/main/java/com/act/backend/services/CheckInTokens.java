@@ -0,0 +1,103 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.CheckInToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Issues and checks self check-in tokens of the form {@code <eventId>.<expiry>.<signature>}, where
+ * the expiry is in epoch seconds and the signature is an HMAC-SHA256 over the first two parts.
+ * Checking a token is pure computation, with no database read.
+ * <p>
+ * The key comes from {@code portal.check-in.secret} and must be the same on every node. Without
+ * it a random key is generated at startup, so tokens stop working after a restart. Tokens are
+ * valid for {@code portal.check-in.token-ttl}; faculty are expected to display a fresh one as it
+ * runs out.
+ */
+@Slf4j
+@Component
+public class CheckInTokens {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    public CheckInTokens(@Value("${portal.check-in.secret:}") String secret,
+                         @Value("${portal.check-in.token-ttl:10m}") Duration ttl) {
+        byte[] bytes;
+        if (secret.isBlank()) {
+            bytes = new byte[32];
+            new SecureRandom().nextBytes(bytes);
+            log.warn("portal.check-in.secret is not set; check-in tokens will not survive a restart");
+        } else {
+            bytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(bytes, ALGORITHM);
+        this.ttl = ttl;
+        newMac();  // fail at startup rather than on the first check-in
+    }
+
+    public CheckInToken issue(Long eventId) {
+        return issue(eventId, Instant.now().plus(ttl));
+    }
+
+    CheckInToken issue(Long eventId, Instant expiresAt) {
+        String payload = eventId + "." + expiresAt.getEpochSecond();
+        return new CheckInToken(eventId, payload + "." + sign(payload), Instant.ofEpochSecond(expiresAt.getEpochSecond()));
+    }
+
+    /** Returns the event the token is for; throws if it is malformed, forged or expired. */
+    public Long verify(String token) {
+        if (token == null) throw PortalException.invalid("Invalid check-in token");
+        int end = token.lastIndexOf('.');
+        int mid = end > 0 ? token.lastIndexOf('.', end - 1) : -1;
+        if (mid <= 0) throw PortalException.invalid("Invalid check-in token");
+
+        String payload = token.substring(0, end);
+        byte[] signature;
+        try {
+            signature = DECODER.decode(token.substring(end + 1));
+        } catch (IllegalArgumentException e) {
+            throw PortalException.invalid("Invalid check-in token");
+        }
+        if (!MessageDigest.isEqual(signature, mac(payload))) throw PortalException.invalid("Invalid check-in token");
+
+        // Signed by us, so the parts are numbers we wrote
+        long expiry = Long.parseLong(token.substring(mid + 1, end));
+        if (Instant.now().getEpochSecond() > expiry) throw new PortalException(PortalException.Reason.EXPIRED, "Check-in token expired");
+        return Long.valueOf(token.substring(0, mid));
+    }
+
+    private String sign(String payload) {
+        return ENCODER.encodeToString(mac(payload));
+    }
+
+    private byte[] mac(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialise " + ALGORITHM, e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.act.backend.services;
+
+import com.act.backend.models.Event;
+import com.act.backend.models.Faculty;
+import com.act.backend.repositories.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * CSV exports of attendance, registrations and the student roster.
+ * <p>
+ * Each export runs one forward-only query and writes every row to the response as it is read.
+ * Nothing is collected in between, so memory stays flat however many rows are exported, and the
+ * header is flushed before the query starts so the download begins at once. How many rows the
+ * driver buffers is set by {@code portal.export.fetch-size}. MySQL Connector/J only honours it
+ * with {@code useCursorFetch=true} on the JDBC URL; otherwise it reads the whole result first.
+ */
+@Service
+public class CsvExportService {
+
+    private static final String BOM = "\uFEFF";  // lets Excel pick UTF-8
+
+    private final JdbcTemplate jdbc;
+    private final EventRepository eventRepo;
+
+    public CsvExportService(DataSource dataSource, EventRepository eventRepo,
+                            @Value("${portal.export.fetch-size:500}") int fetchSize) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(fetchSize);
+        this.eventRepo = eventRepo;
+    }
+
+    /** Checks the event exists and, when an owner is given, that it is assigned to them. Call before streaming. */
+    public Event requireEvent(Long eventId, Faculty owner) {
+        Event event = eventRepo.findById(eventId).orElseThrow(() -> PortalException.notFound("Event not found"));
+        if (owner != null && (event.getFaculty() == null || !event.getFaculty().getId().equals(owner.getId())))
+            throw new PortalException(PortalException.Reason.FORBIDDEN, "Unauthorized access");
+        return event;
+    }
+
+    public void writeEventAttendance(Long eventId, OutputStream out) throws IOException {
+        export(out,
+                new Object[]{"student_id", "name", "email", "phone", "department", "attendance"},
+                "SELECT s.id, s.name, s.email, s.phone, s.department, se.attendance " +
+                "FROM student_event se JOIN student s ON s.id = se.student_id " +
+                "WHERE se.event_id = ? ORDER BY s.name, s.id",
+                rs -> new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+                        attendance(rs, 6)},
+                eventId);
+    }
+
+    public void writeRegistrations(OutputStream out) throws IOException {
+        export(out,
+                new Object[]{"event_id", "event", "start_time", "student_id", "student", "email", "attendance"},
+                "SELECT e.id, e.name, e.start_time, s.id, s.name, s.email, se.attendance " +
+                "FROM student_event se JOIN event e ON e.id = se.event_id JOIN student s ON s.id = se.student_id " +
+                "ORDER BY e.id, s.id",
+                rs -> new Object[]{rs.getLong(1), rs.getString(2), timestamp(rs, 3), rs.getLong(4), rs.getString(5),
+                        rs.getString(6), attendance(rs, 7)});
+    }
+
+    public void writeStudentRoster(OutputStream out) throws IOException {
+        export(out,
+                new Object[]{"student_id", "name", "email", "phone", "department", "gender", "registered_events"},
+                "SELECT s.id, s.name, s.email, s.phone, s.department, s.gender, COUNT(se.id) " +
+                "FROM student s LEFT JOIN student_event se ON se.student_id = s.id " +
+                "GROUP BY s.id, s.name, s.email, s.phone, s.department, s.gender ORDER BY s.id",
+                rs -> new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+                        rs.getString(6), rs.getLong(7)});
+    }
+
+    @FunctionalInterface
+    private interface RowFormat {
+        Object[] values(ResultSet rs) throws SQLException;
+    }
+
+    private void export(OutputStream out, Object[] header, String sql, RowFormat format, Object... args) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CsvWriter csv = new CsvWriter(writer);
+        writer.write(BOM);
+        csv.row(header);
+        csv.flush();
+
+        try {
+            jdbc.query(sql, rs -> {
+                try {
+                    csv.row(format.values(rs));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);  // client went away; stop reading rows
+                }
+            }, args);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        csv.flush();
+    }
+
+    private static String attendance(ResultSet rs, int column) throws SQLException {
+        boolean present = rs.getBoolean(column);
+        return rs.wasNull() ? "" : present ? "present" : "absent";
+    }
+
+    private static String timestamp(ResultSet rs, int column) throws SQLException {
+        Timestamp ts = rs.getTimestamp(column);
+        return ts == null ? "" : ts.toLocalDateTime().toString();
+    }
+}
@@ -0,0 +1,99 @@
+package com.act.backend.services;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader that pulls one record at a time from a stream.
+ * <p>
+ * Handles quoted fields with embedded commas, doubled quotes and line breaks, CRLF or LF line
+ * ends and a leading byte-order mark. Only the current record is held in memory, so an upload of
+ * any size is parsed in constant space.
+ */
+final class CsvReader {
+
+    private final Reader in;
+    private long line = 1;       // physical line the next record starts on
+    private long recordLine;     // physical line the last returned record started on
+    private int pending = -2;    // one char of look-ahead, -2 = none
+    private boolean started;
+
+    CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /** Line number (1-based) where the record last returned by {@link #next()} started. */
+    long line() {
+        return recordLine;
+    }
+
+    /** The next record's fields, or null at end of input. Blank lines are skipped. */
+    List<String> next() throws IOException {
+        while (true) {
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false, inQuotes = false, any = false;
+
+            int c;
+            while ((c = read()) != -1) {
+                any = true;
+                if (inQuotes) {
+                    if (c == '"') {
+                        int n = read();
+                        if (n == '"') {
+                            field.append('"');
+                        } else {
+                            inQuotes = false;
+                            unread(n);
+                        }
+                    } else {
+                        if (c == '\n') line++;
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty() && !quoted) {
+                    inQuotes = quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    quoted = false;
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r') {
+                        int n = read();
+                        if (n != '\n') unread(n);
+                    }
+                    line++;
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+            }
+            if (inQuotes) throw new IOException("Unterminated quoted field starting on line " + recordLine);
+            if (!any) return null;
+
+            fields.add(field.toString());
+            if (fields.size() == 1 && fields.get(0).isBlank() && !quoted) continue;
+            return fields;
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        int c = in.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') c = in.read();
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+}
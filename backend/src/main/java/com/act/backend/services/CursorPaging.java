@@ -0,0 +1,125 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.CursorPage;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination helpers shared by the list endpoints.
+ * <p>
+ * Every listing is ordered by an optional sort key followed by the id as a tie-breaker, so the
+ * next page is a "greater than the last row seen" seek instead of an OFFSET scan. The cursor
+ * handed to clients is the base64url-encoded key set of the last row plus the sort key it was
+ * produced for; it is opaque and only valid for the same listing and sort.
+ */
+final class CursorPaging {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private CursorPaging() {
+    }
+
+    /**
+     * A listing's sort options: public sort key name to entity property path, plus the id path
+     * used as tie-breaker. The first entry is the default. Properties that JSON cannot round-trip
+     * (dates) are declared with {@link #withType} so cursors decode back to the right type.
+     */
+    record SortKeys(String idProperty, Map<String, String> keys, Map<String, Class<?>> types) {
+
+        static SortKeys of(String idProperty, String... keyPropertyPairs) {
+            Map<String, String> keys = new LinkedHashMap<>();
+            for (int i = 0; i < keyPropertyPairs.length; i += 2) {
+                keys.put(keyPropertyPairs[i], keyPropertyPairs[i + 1]);
+            }
+            return new SortKeys(idProperty, keys, Map.of(idProperty, Long.class));
+        }
+
+        SortKeys withType(String property, Class<?> type) {
+            Map<String, Class<?>> merged = new LinkedHashMap<>(types);
+            merged.put(property, type);
+            return new SortKeys(idProperty, keys, merged);
+        }
+
+        String resolve(String sortKey) {
+            if (sortKey == null || sortKey.isBlank()) return keys.keySet().iterator().next();
+            if (!keys.containsKey(sortKey)) throw PortalException.invalid("Unsupported sort key: " + sortKey);
+            return sortKey;
+        }
+
+        Sort sort(String sortKey) {
+            String property = keys.get(sortKey);
+            return property.equals(idProperty)
+                    ? Sort.by(idProperty)
+                    : Sort.by(property).and(Sort.by(idProperty));
+        }
+    }
+
+    static Limit limit(Integer requested) {
+        if (requested == null) return Limit.of(DEFAULT_LIMIT);
+        if (requested < 1) throw PortalException.invalid("limit must be positive");
+        return Limit.of(Math.min(requested, MAX_LIMIT));
+    }
+
+    static ScrollPosition position(String cursor, SortKeys sortKeys, String sortKey) {
+        if (cursor == null || cursor.isBlank()) return ScrollPosition.keyset();
+
+        Map<String, Object> decoded;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            decoded = MAPPER.readValue(json, new TypeReference<>() {});
+        } catch (Exception e) {
+            throw PortalException.invalid("Invalid cursor");
+        }
+        if (!sortKey.equals(decoded.get("s")) || !(decoded.get("k") instanceof Map<?, ?> raw)) {
+            throw PortalException.invalid("Cursor does not match the requested sort");
+        }
+
+        // JSON loses Long ids and dates; restore them so the seek predicate binds cleanly
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            raw.forEach((k, v) -> {
+                Class<?> type = sortKeys.types().get(k);
+                keys.put((String) k, type != null && v != null ? MAPPER.convertValue(v, type) : v);
+            });
+        } catch (IllegalArgumentException e) {
+            throw PortalException.invalid("Invalid cursor");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    static <T, R> CursorPage<R> page(Window<T> window, String sortKey, Function<List<T>, List<R>> mapper) {
+        String next = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            next = encode(sortKey, last.getKeys());
+        }
+        return new CursorPage<>(mapper.apply(window.getContent()), next);
+    }
+
+    private static String encode(String sortKey, Map<String, Object> keys) {
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(Map.of("s", sortKey, "k", keys));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+}
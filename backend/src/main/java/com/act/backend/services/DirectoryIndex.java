@@ -0,0 +1,174 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.DirectoryMatch;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Prefix index over one people directory (students or faculty).
+ * <p>
+ * Name and department words and whole e-mail addresses are keys of sorted maps whose values are
+ * sorted id arrays, so a typeahead query is a range scan that stops as soon as it has enough
+ * hits instead of a pass over everyone. Each distinct word is stored once however many people
+ * share it, and an id costs eight bytes per word. The suggestion itself is kept per person so a
+ * search never touches the database.
+ * <p>
+ * Results list name matches first, then e-mail matches, then department matches, each in
+ * alphabetical order of the matched word. When the query has several words, every word has to
+ * prefix a word of the person's name or department. Writes are serialised and replace the id
+ * arrays instead of mutating them, so reads take no lock. Single edits copy the arrays they
+ * touch; {@link #putAll} gathers a whole batch first and installs each word's array once.
+ */
+final class DirectoryIndex {
+
+    // Upper bound on candidates examined per query, keeps very short multi-word queries cheap
+    private static final int MAX_SCAN = 10_000;
+    private static final long[] NONE = new long[0];
+
+    private final Map<Long, DirectoryMatch> people = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, long[]> names = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, long[]> emails = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, long[]> departments = new ConcurrentSkipListMap<>();
+
+    synchronized void put(DirectoryMatch person) {
+        remove(person.id());
+        people.put(person.id(), person);
+        for (String word : SearchText.tokenize(person.name())) add(names, word, person.id());
+        for (String word : SearchText.tokenize(person.department())) add(departments, word, person.id());
+        if (person.email() != null && !person.email().isBlank()) add(emails, SearchText.fold(person.email()), person.id());
+    }
+
+    synchronized void putAll(Collection<DirectoryMatch> batch) {
+        Map<Long, DirectoryMatch> latest = new LinkedHashMap<>();
+        for (DirectoryMatch person : batch) latest.put(person.id(), person);
+        Map<String, List<Long>> nameIds = new HashMap<>();
+        Map<String, List<Long>> departmentIds = new HashMap<>();
+        Map<String, List<Long>> emailIds = new HashMap<>();
+        for (DirectoryMatch person : latest.values()) {
+            remove(person.id());
+            people.put(person.id(), person);
+            for (String word : SearchText.tokenize(person.name())) collect(nameIds, word, person.id());
+            for (String word : SearchText.tokenize(person.department())) collect(departmentIds, word, person.id());
+            if (person.email() != null && !person.email().isBlank()) collect(emailIds, SearchText.fold(person.email()), person.id());
+        }
+        install(names, nameIds);
+        install(departments, departmentIds);
+        install(emails, emailIds);
+    }
+
+    synchronized void remove(Long id) {
+        DirectoryMatch person = people.remove(id);
+        if (person == null) return;
+        for (String word : SearchText.tokenize(person.name())) drop(names, word, id);
+        for (String word : SearchText.tokenize(person.department())) drop(departments, word, id);
+        if (person.email() != null && !person.email().isBlank()) drop(emails, SearchText.fold(person.email()), id);
+    }
+
+    synchronized void clear() {
+        people.clear();
+        names.clear();
+        emails.clear();
+        departments.clear();
+    }
+
+    int size() {
+        return people.size();
+    }
+
+    List<DirectoryMatch> search(String query, int limit) {
+        List<String> words = SearchText.tokenize(query);
+        if (words.isEmpty()) return List.of();
+        String email = SearchText.fold(query.trim());
+        // The longest word narrows the scan the most; the others are checked per candidate
+        String lead = words.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+
+        Set<Long> seen = new HashSet<>();
+        List<DirectoryMatch> hits = new ArrayList<>(limit);
+        int[] budget = {MAX_SCAN};
+        scan(names, lead, words, null, seen, hits, limit, budget);
+        scan(emails, email, null, email, seen, hits, limit, budget);
+        scan(departments, lead, words, null, seen, hits, limit, budget);
+        return hits;
+    }
+
+    private void scan(ConcurrentSkipListMap<String, long[]> field, String prefix, List<String> words, String email,
+                      Set<Long> seen, List<DirectoryMatch> hits, int limit, int[] budget) {
+        if (hits.size() >= limit || budget[0] <= 0) return;
+        for (long[] ids : field.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (long id : ids) {
+                if (--budget[0] < 0) return;
+                if (seen.contains(id)) continue;
+                DirectoryMatch person = people.get(id);
+                if (person == null) continue;
+                if (email != null || matchesAll(person, words)) {
+                    seen.add(id);
+                    hits.add(person);
+                    if (hits.size() >= limit) return;
+                }
+            }
+        }
+    }
+
+    private static boolean matchesAll(DirectoryMatch person, List<String> words) {
+        if (words.size() == 1) return true;  // the lead word already matched
+        List<String> own = new ArrayList<>(SearchText.tokenize(person.name()));
+        own.addAll(SearchText.tokenize(person.department()));
+        for (String word : words) {
+            if (own.stream().noneMatch(w -> w.startsWith(word))) return false;
+        }
+        return true;
+    }
+
+    private static void add(ConcurrentSkipListMap<String, long[]> field, String word, long id) {
+        field.compute(word, (w, ids) -> {
+            if (ids == null) ids = NONE;
+            int at = Arrays.binarySearch(ids, id);
+            if (at >= 0) return ids;
+            int insert = -at - 1;
+            long[] grown = new long[ids.length + 1];
+            System.arraycopy(ids, 0, grown, 0, insert);
+            grown[insert] = id;
+            System.arraycopy(ids, insert, grown, insert + 1, ids.length - insert);
+            return grown;
+        });
+    }
+
+    private static void collect(Map<String, List<Long>> pending, String word, long id) {
+        pending.computeIfAbsent(word, w -> new ArrayList<>()).add(id);
+    }
+
+    private static void install(ConcurrentSkipListMap<String, long[]> field, Map<String, List<Long>> pending) {
+        pending.forEach((word, ids) -> {
+            long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+            field.merge(word, sorted, DirectoryIndex::union);
+        });
+    }
+
+    // Both arrays are sorted and duplicate-free; so is the result
+    private static long[] union(long[] a, long[] b) {
+        long[] out = new long[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) out[n++] = a[i++];
+            else if (a[i] > b[j]) out[n++] = b[j++];
+            else { out[n++] = a[i++]; j++; }
+        }
+        while (i < a.length) out[n++] = a[i++];
+        while (j < b.length) out[n++] = b[j++];
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static void drop(ConcurrentSkipListMap<String, long[]> field, String word, long id) {
+        field.computeIfPresent(word, (w, ids) -> {
+            int at = Arrays.binarySearch(ids, id);
+            if (at < 0) return ids;
+            if (ids.length == 1) return null;
+            long[] shrunk = new long[ids.length - 1];
+            System.arraycopy(ids, 0, shrunk, 0, at);
+            System.arraycopy(ids, at + 1, shrunk, at, ids.length - at - 1);
+            return shrunk;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.DirectoryMatch;
+import com.act.backend.models.Faculty;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.FacultyRepository;
+import com.act.backend.repositories.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Typeahead over the admin student and faculty directories, one {@link DirectoryIndex} each.
+ * Loaded from a narrow projection at startup; the signup, profile, admin edit and delete paths
+ * keep it current, applying changes after their transaction commits.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DirectorySearch {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 50;
+
+    private final StudentRepository studentRepo;
+    private final FacultyRepository facultyRepo;
+
+    private final DirectoryIndex students = new DirectoryIndex();
+    private final DirectoryIndex faculty = new DirectoryIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        load(students, studentRepo.findDirectory());
+        load(faculty, facultyRepo.findDirectory());
+        log.info("Indexed {} students and {} faculty for directory search", students.size(), faculty.size());
+    }
+
+    public List<DirectoryMatch> searchStudents(String query, Integer limit) {
+        return students.search(query, limit(limit));
+    }
+
+    public List<DirectoryMatch> searchFaculty(String query, Integer limit) {
+        return faculty.search(query, limit(limit));
+    }
+
+    public void index(Student s) {
+        DirectoryMatch entry = new DirectoryMatch(s.getId(), s.getName(), s.getEmail(), s.getDepartment());
+        AfterCommit.run(() -> students.put(entry));
+    }
+
+    public void index(Faculty f) {
+        DirectoryMatch entry = new DirectoryMatch(f.getId(), f.getName(), f.getEmail(), f.getDepartment());
+        AfterCommit.run(() -> faculty.put(entry));
+    }
+
+    public void indexStudents(List<DirectoryMatch> entries) {
+        AfterCommit.run(() -> students.putAll(entries));
+    }
+
+    public void indexFaculty(List<DirectoryMatch> entries) {
+        AfterCommit.run(() -> faculty.putAll(entries));
+    }
+
+    public void removeStudent(Long id) {
+        AfterCommit.run(() -> students.remove(id));
+    }
+
+    public void removeStudents(Collection<Long> ids) {
+        AfterCommit.run(() -> ids.forEach(students::remove));
+    }
+
+    public void removeFaculty(Long id) {
+        AfterCommit.run(() -> faculty.remove(id));
+    }
+
+    private static void load(DirectoryIndex index, List<DirectoryMatch> people) {
+        synchronized (index) {
+            index.clear();
+            index.putAll(people);
+        }
+    }
+
+    private static int limit(Integer requested) {
+        if (requested == null) return DEFAULT_LIMIT;
+        if (requested < 1) throw PortalException.invalid("limit must be positive");
+        return Math.min(requested, MAX_LIMIT);
+    }
+}
@@ -0,0 +1,167 @@
+package com.act.backend.services;
+
+import com.act.backend.models.EmailOutbox;
+import com.act.backend.repositories.EmailOutboxRepository;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Drains the email outbox in the background.
+ * <p>
+ * Each poll hands back expired leases, claims up to {@code batch-size} due rows and sends them on a
+ * fixed pool of {@code concurrency} threads, waiting for the batch before polling again. Failed
+ * sends are retried with exponential backoff; after {@code max-attempts} the row is parked as DEAD.
+ * A send still running when its lease expires counts as a failed attempt too. A send that cannot
+ * get a MAIL bulkhead permit in time never reached the relay, so its row is handed back as it was.
+ * Claims are conditional updates, so several backend nodes can drain the same table.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final String LEASE_EXPIRED = "Send did not finish before the lease expired";
+
+    private final EmailOutboxRepository outboxRepo;
+    private final JavaMailSender mailSender;
+    private final PortalMetrics metrics;
+    private final Bulkheads bulkheads;
+    private final ExecutorService senders;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository outboxRepo,
+                                 JavaMailSender mailSender,
+                                 PortalMetrics metrics,
+                                 Bulkheads bulkheads,
+                                 @Value("${portal.mail.outbox.enabled:true}") boolean enabled,
+                                 @Value("${portal.mail.outbox.concurrency:4}") int concurrency,
+                                 @Value("${portal.mail.outbox.batch-size:50}") int batchSize,
+                                 @Value("${portal.mail.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${portal.mail.outbox.initial-backoff:30s}") Duration initialBackoff,
+                                 @Value("${portal.mail.outbox.max-backoff:1h}") Duration maxBackoff,
+                                 @Value("${portal.mail.outbox.lease:5m}") Duration lease) {
+        this.outboxRepo = outboxRepo;
+        this.mailSender = mailSender;
+        this.metrics = metrics;
+        this.bulkheads = bulkheads;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.senders = Executors.newFixedThreadPool(concurrency, Thread.ofPlatform().name("mail-outbox-", 0).factory());
+    }
+
+    @Scheduled(fixedDelayString = "${portal.mail.outbox.poll-interval-ms:2000}")
+    public void poll() {
+        if (!enabled) return;
+        try {
+            dispatchDue();
+        } catch (RuntimeException e) {
+            log.warn("Email outbox poll failed", e);
+        }
+    }
+
+    /** Sends one batch of due mail; returns how many rows this node claimed. */
+    public int dispatchDue() {
+        LocalDateTime now = LocalDateTime.now();
+        int dead = outboxRepo.deadLetterExpiredLeases(now, maxAttempts, LEASE_EXPIRED);
+        if (dead > 0) {
+            metrics.emailDeadLettered(dead);
+            log.error("{} emails dead-lettered after their last send outlived the lease", dead);
+        }
+        outboxRepo.releaseExpiredLeases(now, LEASE_EXPIRED);
+
+        List<Callable<Void>> batch = new ArrayList<>();
+        for (Long id : outboxRepo.findDueIds(now, Limit.of(batchSize))) {
+            if (outboxRepo.claim(id, now.plus(lease)) == 1) {
+                batch.add(() -> { deliver(id); return null; });
+            }
+        }
+        if (batch.isEmpty()) return 0;
+
+        try {
+            senders.invokeAll(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return batch.size();
+    }
+
+    private void deliver(Long id) {
+        EmailOutbox msg = outboxRepo.findById(id).orElse(null);
+        if (msg == null) return;
+
+        Timer.Sample sample = metrics.start();
+        try {
+            SimpleMailMessage mail = new SimpleMailMessage();
+            mail.setTo(msg.getRecipient());
+            mail.setSubject(msg.getSubject());
+            mail.setText(msg.getBody());
+            // Caps open SMTP sessions even when the sender pool is sized above what the relay accepts
+            try (Bulkheads.Permit permit = bulkheads.acquire(Bulkheads.Workload.MAIL)) {
+                mailSender.send(mail);
+            }
+            metrics.emailSend(sample, true);
+
+            msg.setStatus(EmailOutbox.Status.SENT);
+            msg.setSentAt(LocalDateTime.now());
+            msg.setLastError(null);
+        } catch (Bulkheads.Full e) {
+            // Still due, so the next poll picks it up again; no attempt is used up
+            msg.setStatus(EmailOutbox.Status.PENDING);
+            log.debug("Email {} deferred, all SMTP permits in use", id);
+        } catch (RuntimeException e) {
+            metrics.emailSend(sample, false);
+            msg.setAttempts(msg.getAttempts() + 1);
+            msg.setLastError(truncate(e.getMessage()));
+            if (msg.getAttempts() >= maxAttempts) {
+                msg.setStatus(EmailOutbox.Status.DEAD);
+                metrics.emailDeadLettered(1);
+                log.error("Email {} to {} dead-lettered after {} attempts", id, msg.getRecipient(), msg.getAttempts(), e);
+            } else {
+                msg.setStatus(EmailOutbox.Status.PENDING);
+                msg.setNextAttemptAt(LocalDateTime.now().plus(backoff(msg.getAttempts())));
+                log.warn("Email {} failed (attempt {}), retrying at {}", id, msg.getAttempts(), msg.getNextAttemptAt());
+            }
+        }
+        msg.setLockedUntil(null);
+        outboxRepo.save(msg);
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) return null;
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdown();
+    }
+}
@@ -1,20 +1,43 @@
 package com.act.backend.services;
 
+import com.act.backend.models.EmailOutbox;
+import com.act.backend.repositories.EmailOutboxRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class EmailService {
-    private final JavaMailSender mailSender;
+    private final EmailOutboxRepository outboxRepo;
 
+    /**
+     * Queues a mail in the outbox. Joins the caller's transaction when there is one, so the mail
+     * is only sent if the business change commits; delivery happens in EmailOutboxDispatcher.
+     */
+    @Transactional
     public void sendEmail(String to, String subject, String text) {
-        SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setTo(to);
+        EmailOutbox msg = new EmailOutbox();
+        msg.setRecipient(to);
         msg.setSubject(subject);
-        msg.setText(text);
-        mailSender.send(msg);
+        msg.setBody(text);
+        msg.setStatus(EmailOutbox.Status.PENDING);
+        msg.setCreatedAt(LocalDateTime.now());
+        msg.setNextAttemptAt(msg.getCreatedAt());
+        outboxRepo.save(msg);
+    }
+
+    /**
+     * Queues a mail to every faculty member in {@code facultyIds} who is not approved yet, the text
+     * being {@code textPrefix} followed by their email address. Returns the number queued; run it
+     * before the approval itself.
+     */
+    @Transactional
+    public int sendEmailToPendingFaculty(Collection<Long> facultyIds, String subject, String textPrefix) {
+        if (facultyIds.isEmpty()) return 0;
+        return outboxRepo.queueForPendingFaculty(facultyIds, subject, textPrefix, LocalDateTime.now());
     }
 }
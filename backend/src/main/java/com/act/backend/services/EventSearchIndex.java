@@ -0,0 +1,166 @@
+package com.act.backend.services;
+
+import com.act.backend.models.Event;
+import com.act.backend.repositories.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over event name, description and venue.
+ * <p>
+ * Terms are lower-cased, accent-folded runs of letters and digits kept in a sorted map, so a
+ * query term matches every indexed term it is a prefix of with one range scan. Every query term
+ * has to match (AND). A hit scores the field weight of the matching term (name 3, venue 2,
+ * description 1), halved when the match is only a prefix, summed over query terms. Ties go to
+ * the lower id.
+ * <p>
+ * The index holds ids only; callers load the hits. Writes inside a transaction are applied after
+ * commit, so a rolled-back change never becomes searchable. The whole index is rebuilt at startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSearchIndex {
+
+    static final int NAME_WEIGHT = 3;
+    static final int VENUE_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    private final EventRepository eventRepo;
+
+    // term -> (event id -> best field weight of that term in the event)
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // event id -> its terms, so an update or delete can take the old postings out
+    private final Map<Long, Set<String>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Event> events = eventRepo.findAll();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            for (Event e : events) put(e.getId(), terms(e));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} events for search", events.size());
+    }
+
+    /** Indexes (or re-indexes) an event, after the surrounding transaction commits if there is one. */
+    public void index(Event event) {
+        Long id = event.getId();
+        Map<String, Integer> terms = terms(event);  // read the fields now, while the entity is still managed
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                unindex(id);
+                put(id, terms);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Event event) {
+        Long id = event.getId();
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                unindex(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void removeAll(Collection<Long> ids) {
+        AfterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                ids.forEach(this::unindex);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /** Ids of the best matches, highest score first; empty for a query without searchable terms. */
+    public List<Long> search(String query, int limit) {
+        List<String> queryTerms = SearchText.tokenize(query).stream().distinct().toList();
+        if (queryTerms.isEmpty()) return List.of();
+
+        Map<Long, Integer> scores = null;
+        lock.readLock().lock();
+        try {
+            for (String q : queryTerms) {
+                Map<Long, Integer> termScores = new HashMap<>();
+                for (Map.Entry<String, Map<Long, Integer>> entry : postings.subMap(q, true, q + Character.MAX_VALUE, false).entrySet()) {
+                    // Exact matches count double so a whole word outranks a prefix in the same field
+                    boolean exact = entry.getKey().equals(q);
+                    entry.getValue().forEach((id, weight) ->
+                            termScores.merge(id, exact ? weight * 2 : weight, Math::max));
+                }
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) return List.of();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> terms(Event e) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, e.getName(), NAME_WEIGHT);
+        addTerms(terms, e.getVenue(), VENUE_WEIGHT);
+        addTerms(terms, e.getDescription(), DESCRIPTION_WEIGHT);
+        return terms;
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String token : SearchText.tokenize(text)) terms.merge(token, weight, Math::max);
+    }
+
+    private void put(Long id, Map<String, Integer> terms) {
+        terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, weight));
+        documents.put(id, terms.keySet());
+    }
+
+    private void unindex(Long id) {
+        Set<String> terms = documents.remove(id);
+        if (terms == null) return;
+        for (String term : terms) {
+            Map<Long, Integer> ids = postings.get(term);
+            ids.remove(id);
+            if (ids.isEmpty()) postings.remove(term);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.RegistrationState;
+import com.act.backend.dto.StudentAttendanceDTO;
+import com.act.backend.models.EventSeat;
+import com.act.backend.models.StudentEvent;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Registration writes with seat limits.
+ * <p>
+ * A registration is a plain insert (the unique (student_id, event_id) key rejects duplicates,
+ * including racing ones) followed by a conditional seat claim on the event's EventSeat row; if no
+ * seat is left the transaction rolls back and the insert disappears with it. Two statements, no
+ * check-then-act window, and concurrent registrations for one event only serialise on the short
+ * seat-row update.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventSeatService {
+
+    private final EventSeatRepository seatRepo;
+    private final EventRepository eventRepo;
+    private final StudentRepository studentRepo;
+    private final StudentEventRepository studentEventRepo;
+    private final AttendanceAnalytics analytics;
+    private final AttendanceFeed feed;
+
+    /**
+     * Throws DataIntegrityViolationException when the student is already registered (or the
+     * event does not exist); callers translate that outside this transaction.
+     */
+    @Transactional
+    public void register(Long studentId, Long eventId) {
+        StudentEvent se = new StudentEvent();
+        se.setStudent(studentRepo.getReferenceById(studentId));
+        se.setEvent(eventRepo.getReferenceById(eventId));
+        se.setAttendance(null);
+        // flush first so a duplicate or a missing event fails here rather than reading as "full"
+        studentEventRepo.saveAndFlush(se);
+
+        if (seatRepo.claimSeat(eventId) == 0) throw new PortalException(PortalException.Reason.FULL, "Event is full");
+        StudentAttendanceDTO row = studentEventRepo.findRoster(eventId, studentId).orElseThrow();
+        analytics.registered(eventId, row.getDepartment());
+        feed.registered(eventId, row);
+    }
+
+    /** Returns false if the student was not registered. */
+    @Transactional
+    public boolean unregister(Long studentId, Long eventId) {
+        RegistrationState state = registration(studentId, eventId);
+        if (state == null || studentEventRepo.deleteRegistration(studentId, eventId) == 0) return false;
+        seatRepo.releaseSeat(eventId);
+        analytics.unregistered(eventId, state);
+        feed.unregistered(eventId, studentId);
+        return true;
+    }
+
+    private RegistrationState registration(Long studentId, Long eventId) {
+        List<RegistrationState> states = studentEventRepo.findRegistrationStates(eventId, List.of(studentId));
+        return states.isEmpty() ? null : states.get(0);
+    }
+
+    @Transactional
+    public void track(Long eventId) {
+        seatRepo.save(new EventSeat(eventId, 0));
+    }
+
+    @Transactional
+    public void forget(Collection<Long> eventIds) {
+        seatRepo.deleteByEventIds(eventIds);
+    }
+
+    /** Recounts the given events from student_event, after registrations were removed in bulk. */
+    @Transactional
+    public void recount(Collection<Long> eventIds) {
+        if (!eventIds.isEmpty()) seatRepo.recount(eventIds);
+    }
+
+    /** Creates counters for events that predate seat tracking and recounts every event from student_event. */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        int created = seatRepo.insertMissing();
+        seatRepo.recount();
+        if (created > 0) log.info("Created seat counters for {} existing events", created);
+    }
+}
@@ -2,23 +2,56 @@ package com.act.backend.services;
 
 import com.act.backend.models.Event;
 import com.act.backend.repositories.EventRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EventService {
 
     private final EventRepository eventRepository;
+    private final EventSeatService seatService;
+    private final EventSearchIndex searchIndex;
+    private final AttendanceAnalytics analytics;
 
     public List<Event> getAllEvents() {
         return eventRepository.findAll();
     }
 
+    @Transactional
     public Event createEvent(Event event) {
-        return eventRepository.save(event);
+        if (event.getStartTime() == null) event.setStartTime(EventTimes.parse(event.getDate()));
+        Event saved = eventRepository.save(event);
+        seatService.track(saved.getId());
+        searchIndex.index(saved);
+        analytics.assigned(saved.getId(), saved.getFaculty() != null ? saved.getFaculty().getId() : null);
+        return saved;
+    }
+
+    /** Fills startTime for events created before it existed; rows whose date text is not a date stay unscheduled. */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillStartTimes() {
+        int parsed = 0, unparsed = 0;
+        for (Event event : eventRepository.findByStartTimeIsNullAndDateIsNotNull()) {
+            LocalDateTime start = EventTimes.parse(event.getDate());
+            if (start == null) {
+                unparsed++;
+                continue;
+            }
+            event.setStartTime(start);
+            parsed++;
+        }
+        if (parsed > 0) log.info("Backfilled start time for {} events", parsed);
+        if (unparsed > 0) log.warn("{} events have a date that could not be parsed and are left out of schedule queries", unparsed);
     }
 
     public Event getEventById(Long id) {
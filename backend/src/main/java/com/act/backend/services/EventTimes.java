@@ -0,0 +1,86 @@
+package com.act.backend.services;
+
+import com.act.backend.models.Event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsing of event start/end times.
+ * <p>
+ * {@code Event.date} used to be the only schedule field and was free text; the admin form sends
+ * ISO dates but older rows also use day-first and slash-separated forms. Those are mapped onto the
+ * typed {@code startTime} column here, both for incoming requests and for the one-off backfill of
+ * existing rows. Date-only values start at midnight.
+ */
+final class EventTimes {
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("d-M-uuuu"),
+            DateTimeFormatter.ofPattern("d/M/uuuu"),
+            DateTimeFormatter.ofPattern("uuuu/M/d"),
+            DateTimeFormatter.ofPattern("uuuu-M-d"));
+
+    private static final List<DateTimeFormatter> DATE_TIME_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm[:ss]"));
+
+    private EventTimes() {
+    }
+
+    /** Best-effort parse of a stored or submitted date; null when the text is not a recognisable date. */
+    static LocalDateTime parse(String text) {
+        if (text == null || text.isBlank()) return null;
+        String value = text.trim();
+        for (DateTimeFormatter format : DATE_TIME_FORMATS) {
+            try {
+                return LocalDateTime.parse(value, format);
+            } catch (DateTimeParseException ignored) {
+                // try the next format
+            }
+        }
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(value, format).atStartOfDay();
+            } catch (DateTimeParseException ignored) {
+                // try the next format
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Applies the schedule fields of an add/update request. An explicit {@code startTime} or
+     * {@code endTime} must parse; a legacy {@code date} alone sets the start time when it can.
+     */
+    static void apply(Event event, Map<String, Object> body) {
+        if (body.containsKey("date")) {
+            event.setDate((String) body.get("date"));
+            event.setStartTime(parse(event.getDate()));
+        }
+        if (body.containsKey("startTime")) {
+            event.setStartTime(required(body.get("startTime"), "startTime"));
+            if (!body.containsKey("date")) {
+                event.setDate(event.getStartTime() != null ? event.getStartTime().toLocalDate().toString() : null);
+            }
+        }
+        if (body.containsKey("endTime")) event.setEndTime(required(body.get("endTime"), "endTime"));
+
+        if (event.getStartTime() != null && event.getEndTime() != null
+                && event.getEndTime().isBefore(event.getStartTime())) {
+            throw new RuntimeException("Event cannot end before it starts");
+        }
+    }
+
+    private static LocalDateTime required(Object value, String field) {
+        if (value == null || value.toString().isBlank()) return null;
+        LocalDateTime parsed = parse(value.toString());
+        if (parsed == null) throw new RuntimeException("Invalid " + field + ": " + value);
+        return parsed;
+    }
+}
@@ -1,9 +1,14 @@
 package com.act.backend.services;
 
+import com.act.backend.dto.AttendanceMark;
+import com.act.backend.dto.AttendanceMarkResult;
+import com.act.backend.dto.AttendanceOverview;
+import com.act.backend.dto.CheckInToken;
 import com.act.backend.dto.EventDTO;
 import com.act.backend.dto.StudentAttendanceDTO;
 import com.act.backend.models.Event;
 import com.act.backend.models.Faculty;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -13,6 +18,8 @@ public interface FacultyService {
 
     Faculty login(String email, String password);
 
+    Faculty getFaculty(Long id);
+
     Faculty updateProfile(Faculty existing, Faculty updated);
 
     void updatePassword(Faculty faculty, String currentPassword, String newPassword);
@@ -24,4 +31,13 @@ public interface FacultyService {
     List<StudentAttendanceDTO> getStudentsByEvent(Faculty faculty, Long eventId);
 
     void markAttendance(Faculty faculty, Long eventId, Long studentId, Boolean present);
+
+    List<AttendanceMarkResult> markAttendanceBulk(Faculty faculty, Long eventId, List<AttendanceMark> marks);
+
+    AttendanceOverview getAttendanceAnalytics(Faculty faculty);
+
+    CheckInToken issueCheckInToken(Faculty faculty, Long eventId);
+
+    /** Live roster changes for one of the faculty's events, or all of them when eventId is null. */
+    SseEmitter subscribeToAttendance(Faculty faculty, Long eventId);
 }
@@ -1,6 +1,12 @@
 package com.act.backend.services;
 
+import com.act.backend.dto.AttendanceMark;
+import com.act.backend.dto.AttendanceMarkResult;
+import com.act.backend.dto.AttendanceOverview;
+import com.act.backend.dto.CheckInToken;
 import com.act.backend.dto.EventDTO;
+import com.act.backend.dto.RegistrationState;
+import com.act.backend.dto.SessionPrincipal;
 import com.act.backend.dto.StudentAttendanceDTO;
 import com.act.backend.models.Event;
 import com.act.backend.models.Faculty;
@@ -11,12 +17,16 @@ import com.act.backend.repositories.FacultyRepository;
 import com.act.backend.repositories.StudentEventRepository;
 import com.act.backend.repositories.StudentRepository;
 import com.act.backend.services.FacultyService;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -26,25 +36,51 @@ public class FacultyServiceImpl implements FacultyService {
     private final EventRepository eventRepo;
     private final StudentRepository studentRepo;
     private final StudentEventRepository studentEventRepo;
+    private final PortalMetrics metrics;
+    private final DirectorySearch directory;
+    private final AttendanceAnalytics analytics;
+    private final AttendanceFeed feed;
+    private final AttendanceMarker marker;
+    private final CheckInTokens checkInTokens;
+
+    // Faculty registered before registeredAt existed join the back of the approval queue
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRegistrationTimes() {
+        facultyRepo.backfillRegisteredAt(LocalDateTime.now());
+    }
 
     @Override
     public String register(Faculty faculty) {
         faculty.setApproved(false);
         faculty.setPassword(null);
         facultyRepo.save(faculty);
+        directory.index(faculty);
         return "Faculty registered. Wait for admin approval.";
     }
 
     @Override
     public Faculty login(String email, String password) {
-        Faculty faculty = facultyRepo.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
-
-        if (!faculty.isApproved()) throw new RuntimeException("Not approved yet");
-        if (faculty.getPassword() == null) throw new RuntimeException("Password not set yet");
-        if (!faculty.getPassword().equals(password)) throw new RuntimeException("Invalid credentials");
+        try {
+            Faculty faculty = facultyRepo.findByEmail(email)
+                    .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+
+            if (!faculty.isApproved()) throw new RuntimeException("Not approved yet");
+            if (faculty.getPassword() == null) throw new RuntimeException("Password not set yet");
+            if (!faculty.getPassword().equals(password)) throw new RuntimeException("Invalid credentials");
+
+            metrics.login(SessionPrincipal.FACULTY, true);
+            return faculty;
+        } catch (RuntimeException e) {
+            metrics.login(SessionPrincipal.FACULTY, false);
+            throw e;
+        }
+    }
 
-        return faculty;
+    @Override
+    public Faculty getFaculty(Long id) {
+        return facultyRepo.findById(id)
+                .orElseThrow(() -> new RuntimeException("Not logged in"));
     }
 
     @Override
@@ -53,7 +89,9 @@ public class FacultyServiceImpl implements FacultyService {
         existing.setPhone(updated.getPhone());
         existing.setDepartment(updated.getDepartment());
         existing.setGender(updated.getGender());
-        return facultyRepo.save(existing);
+        Faculty saved = facultyRepo.save(existing);
+        directory.index(saved);
+        return saved;
     }
 
     @Override
@@ -66,6 +104,7 @@ public class FacultyServiceImpl implements FacultyService {
     }
 
     @Override
+    @Transactional
     public void setPassword(String email, String password) {
         Faculty faculty = facultyRepo.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("Faculty not found"));
@@ -74,7 +113,7 @@ public class FacultyServiceImpl implements FacultyService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<EventDTO> getAssignedEvents(Faculty faculty) {
         return faculty.getEventsAssigned().stream()
                 .map(e -> new EventDTO(
@@ -85,11 +124,14 @@ public class FacultyServiceImpl implements FacultyService {
                         e.getVenue(),
                         faculty.getName(),
                         faculty.getEmail(),
-                        faculty.getDepartment()
+                        faculty.getDepartment(),
+                        e.getStartTime(),
+                        e.getEndTime()
                 )).toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<StudentAttendanceDTO> getStudentsByEvent(Faculty faculty, Long eventId) {
         Event event = eventRepo.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
@@ -111,6 +153,7 @@ public class FacultyServiceImpl implements FacultyService {
     @Override
     @Transactional
     public void markAttendance(Faculty faculty, Long eventId, Long studentId, Boolean present) {
+        Timer.Sample sample = metrics.start();
         Event event = eventRepo.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
 
@@ -124,5 +167,67 @@ public class FacultyServiceImpl implements FacultyService {
         if (seOpt.isEmpty()) throw new RuntimeException("Student not registered for this event");
 
         studentEventRepo.updateAttendance(eventId, studentId, present);
+        analytics.marked(eventId, List.of(new RegistrationState(studentId, student.getDepartment(), seOpt.get().getAttendance())), present);
+        feed.marked(eventId, List.of(studentId), present);
+        metrics.attendance(sample, "single", 1);
+    }
+
+    @Override
+    @Transactional
+    public List<AttendanceMarkResult> markAttendanceBulk(Faculty faculty, Long eventId, List<AttendanceMark> marks) {
+        Timer.Sample sample = metrics.start();
+        Event event = eventRepo.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+
+        if (event.getFaculty() == null || !event.getFaculty().getId().equals(faculty.getId()))
+            throw new RuntimeException("Unauthorized access");
+
+        // Last mark wins if a student appears twice in the batch
+        Map<Long, Boolean> requested = new LinkedHashMap<>();
+        for (AttendanceMark m : marks) {
+            if (m.getStudentId() != null && m.getPresent() != null) requested.put(m.getStudentId(), m.getPresent());
+        }
+
+        Set<Long> registered = marker.mark(eventId, requested);
+
+        // Index of the mark that was applied for each student, so earlier duplicates report SUPERSEDED
+        Map<Long, Integer> applied = new HashMap<>();
+        for (int i = 0; i < marks.size(); i++) {
+            AttendanceMark m = marks.get(i);
+            if (m.getStudentId() != null && m.getPresent() != null) applied.put(m.getStudentId(), i);
+        }
+
+        List<AttendanceMarkResult> results = new ArrayList<>();
+        for (int i = 0; i < marks.size(); i++) {
+            AttendanceMark m = marks.get(i);
+            String status;
+            if (m.getStudentId() == null || m.getPresent() == null) status = AttendanceMarkResult.INVALID;
+            else if (!registered.contains(m.getStudentId())) status = AttendanceMarkResult.NOT_REGISTERED;
+            else if (applied.get(m.getStudentId()) != i) status = AttendanceMarkResult.SUPERSEDED;
+            else status = AttendanceMarkResult.MARKED;
+            results.add(new AttendanceMarkResult(m.getStudentId(), m.getPresent(), status));
+        }
+        metrics.attendance(sample, "bulk", (int) requested.keySet().stream().filter(registered::contains).count());
+        return results;
+    }
+
+    @Override
+    public AttendanceOverview getAttendanceAnalytics(Faculty faculty) {
+        return analytics.faculty(faculty.getId());
+    }
+
+    @Override
+    public CheckInToken issueCheckInToken(Faculty faculty, Long eventId) {
+        boolean own = faculty.getEventsAssigned().stream().anyMatch(e -> e.getId().equals(eventId));
+        if (!own) throw new RuntimeException("Unauthorized access");
+        return checkInTokens.issue(eventId);
+    }
+
+    @Override
+    public SseEmitter subscribeToAttendance(Faculty faculty, Long eventId) {
+        List<Long> own = faculty.getEventsAssigned().stream().map(Event::getId).toList();
+        if (eventId == null) return feed.subscribe(own);
+        if (!own.contains(eventId)) throw new RuntimeException("Unauthorized access");
+        return feed.subscribe(List.of(eventId));
     }
 }
@@ -0,0 +1,52 @@
+package com.act.backend.services;
+
+import java.util.Locale;
+
+/**
+ * A service failure the caller is expected to handle, tagged with why it failed. Controllers pick
+ * the HTTP status and metrics the outcome tag from the reason rather than the message, so messages
+ * can be reworded freely.
+ */
+public class PortalException extends RuntimeException {
+
+    public enum Reason {
+        /** The request itself is malformed: a bad cursor, sort key, limit, date range or token. */
+        INVALID_REQUEST,
+        /** The caller is not signed in as someone allowed to do this. */
+        UNAUTHORIZED,
+        /** Signed in, but the record belongs to someone else. */
+        FORBIDDEN,
+        NOT_FOUND,
+        /** No seat left on the event. */
+        FULL,
+        /** Already registered for the event. */
+        DUPLICATE,
+        /** Not registered for the event. */
+        NOT_REGISTERED,
+        /** A time-limited token or link has run out. */
+        EXPIRED;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Reason reason;
+
+    public PortalException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public static PortalException invalid(String message) {
+        return new PortalException(Reason.INVALID_REQUEST, message);
+    }
+
+    public static PortalException notFound(String message) {
+        return new PortalException(Reason.NOT_FOUND, message);
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+}
@@ -0,0 +1,170 @@
+package com.act.backend.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Domain metrics for the portal workloads, published next to the JVM/HTTP metrics on
+ * /actuator/prometheus.
+ * <p>
+ * Latency timers publish fixed SLO buckets (rather than client-side percentiles) so Prometheus can
+ * aggregate them across nodes with histogram_quantile. Outcomes are low-cardinality tags.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortalMetrics {
+
+    private static final Duration[] REQUEST_SLOS = {
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1)
+    };
+    private static final Duration[] EMAIL_SLOS = {
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(10)
+    };
+
+    private final MeterRegistry registry;
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void registration(Timer.Sample sample, String outcome) {
+        sample.stop(timer("portal.registrations", "Event registration attempts", REQUEST_SLOS, "outcome", outcome));
+    }
+
+    public void unregistration(Timer.Sample sample, String outcome) {
+        sample.stop(timer("portal.unregistrations", "Event unregistration attempts", REQUEST_SLOS, "outcome", outcome));
+    }
+
+    /** mode is "single" or "bulk"; marks is how many students the call marked. */
+    public void attendance(Timer.Sample sample, String mode, int marks) {
+        sample.stop(timer("portal.attendance.calls", "Attendance marking calls", REQUEST_SLOS, "mode", mode));
+        Counter.builder("portal.attendance.marks")
+                .description("Student attendance marks written")
+                .tag("mode", mode)
+                .register(registry)
+                .increment(marks);
+    }
+
+    public void login(String role, boolean success) {
+        Counter.builder("portal.logins")
+                .description("Login attempts by role")
+                .tag("role", role)
+                .tag("outcome", success ? "success" : "failure")
+                .register(registry)
+                .increment();
+    }
+
+    /** decision is "approved" or "rejected". */
+    public void facultyDecision(String decision) {
+        facultyDecision(decision, 1);
+    }
+
+    public void facultyDecision(String decision, int count) {
+        Counter.builder("portal.faculty.decisions")
+                .description("Faculty approval decisions")
+                .tag("decision", decision)
+                .register(registry)
+                .increment(count);
+    }
+
+    public void emailSend(Timer.Sample sample, boolean success) {
+        sample.stop(timer("portal.email.send", "SMTP send latency", EMAIL_SLOS, "outcome", success ? "success" : "failure"));
+    }
+
+    public void emailDeadLettered(int count) {
+        Counter.builder("portal.email.dead")
+                .description("Emails given up on after the last retry")
+                .register(registry)
+                .increment(count);
+    }
+
+    public void feedSubscribers(AttendanceFeed feed) {
+        Gauge.builder("portal.feed.subscribers", feed, AttendanceFeed::subscriberCount)
+                .description("Open live attendance feed connections")
+                .register(registry);
+    }
+
+    public void feedOverflow() {
+        Counter.builder("portal.feed.overflows")
+                .description("Feed subscribers that fell a full buffer behind and were told to resync")
+                .register(registry)
+                .increment();
+    }
+
+    /** outcome is "accepted", "invalid", "expired" or "error". */
+    public void checkIn(String outcome) {
+        Counter.builder("portal.check-in.requests")
+                .description("Student self check-in requests")
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    public void checkInsFlushed(int marked, int notRegistered) {
+        Counter.builder("portal.check-in.flushed")
+                .description("Buffered check-ins written to student_event")
+                .tag("outcome", "marked")
+                .register(registry)
+                .increment(marked);
+        Counter.builder("portal.check-in.flushed")
+                .description("Buffered check-ins written to student_event")
+                .tag("outcome", "not_registered")
+                .register(registry)
+                .increment(notRegistered);
+    }
+
+    public void bulkhead(String workload, Bulkheads.Bulkhead bulkhead) {
+        Gauge.builder("portal.bulkhead.limit", bulkhead, Bulkheads.Bulkhead::limit)
+                .description("Concurrent calls allowed per workload")
+                .tag("workload", workload)
+                .register(registry);
+        Gauge.builder("portal.bulkhead.in-flight", bulkhead, Bulkheads.Bulkhead::inFlight)
+                .description("Calls holding a bulkhead permit")
+                .tag("workload", workload)
+                .register(registry);
+        Gauge.builder("portal.bulkhead.queued", bulkhead, Bulkheads.Bulkhead::queued)
+                .description("Calls waiting for a bulkhead permit")
+                .tag("workload", workload)
+                .register(registry);
+    }
+
+    /** Only calls that had to queue are timed; outcome says whether they got a permit in time. */
+    public void bulkheadWait(Timer.Sample sample, String workload, boolean acquired) {
+        sample.stop(Timer.builder("portal.bulkhead.wait")
+                .description("Time spent queueing for a bulkhead permit")
+                .serviceLevelObjectives(REQUEST_SLOS)
+                .tag("workload", workload)
+                .tag("outcome", acquired ? "acquired" : "rejected")
+                .register(registry));
+    }
+
+    /** Pool sizes and waits come from Hikari's own hikaricp.* meters, tagged by pool name. */
+    public void datasourceRouted(String target) {
+        Counter.builder("portal.datasource.routed")
+                .description("Connections handed out, by the pool they were routed to")
+                .tag("target", target)
+                .register(registry)
+                .increment();
+    }
+
+    /** The outcome tag for a failed call: the PortalException reason, or "error" for anything else. */
+    public static String outcomeOf(RuntimeException e) {
+        return e instanceof PortalException p ? p.reason().tag() : "error";
+    }
+
+    private Timer timer(String name, String description, Duration[] slos, String tag, String value) {
+        return Timer.builder(name)
+                .description(description)
+                .serviceLevelObjectives(slos)
+                .tag(tag, value)
+                .register(registry);
+    }
+}
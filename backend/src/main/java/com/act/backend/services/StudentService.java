@@ -1,11 +1,14 @@
 package com.act.backend.services;
 
+import com.act.backend.dto.AttendanceSummaryDTO;
+import com.act.backend.dto.CursorPage;
 import com.act.backend.dto.EventDTO;
+import com.act.backend.dto.StudentEventCountDTO;
 import com.act.backend.models.Student;
 import jakarta.servlet.http.HttpSession;
 
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 public interface StudentService {
 
@@ -23,10 +26,18 @@ public interface StudentService {
     String registerEvent(HttpSession session, Long eventId);
     String unregisterEvent(HttpSession session, Long eventId);
     List<EventDTO> getAllEvents();
+    CursorPage<EventDTO> getEventsPage(String cursor, Integer limit, String sort);
+    List<EventDTO> searchEvents(String query, Integer limit);
+    CursorPage<EventDTO> getUpcomingEvents(String cursor, Integer limit);
+    CursorPage<EventDTO> getPastEvents(String cursor, Integer limit);
+    CursorPage<EventDTO> getEventsBetween(LocalDate from, LocalDate to, String cursor, Integer limit);
     List<EventDTO> getRegisteredEvents(HttpSession session);
+
+    AttendanceSummaryDTO getAttendanceSummary(HttpSession session);
     Boolean getAttendance(HttpSession session, Long eventId);
+    String checkIn(HttpSession session, String token);
 
     // Admin utilities
     Student updateStudent(Long id, Student updatedStudent);
-    List<Map<String, Object>> getAllStudentsWithEventCount();
+    List<StudentEventCountDTO> getAllStudentsWithEventCount();
 }
@@ -1,6 +1,11 @@
 package com.act.backend.services;
 
+import com.act.backend.dto.AttendanceSummaryDTO;
+import com.act.backend.dto.CursorPage;
 import com.act.backend.dto.EventDTO;
+import com.act.backend.dto.RegisteredEventAttendance;
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.dto.StudentEventCountDTO;
 import com.act.backend.models.Event;
 import com.act.backend.models.Student;
 import com.act.backend.models.StudentEvent;
@@ -8,10 +13,16 @@ import com.act.backend.repositories.EventRepository;
 import com.act.backend.repositories.StudentRepository;
 import com.act.backend.repositories.StudentEventRepository;
 import com.act.backend.services.StudentService;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
@@ -21,6 +32,20 @@ public class StudentServiceImpl implements StudentService {
     private final StudentRepository studentRepo;
     private final EventRepository eventRepo;
     private final StudentEventRepository studentEventRepo;
+    private final EventSeatService seatService;
+    private final PortalMetrics metrics;
+    private final EventSearchIndex searchIndex;
+    private final DirectorySearch directory;
+    private final AttendanceAnalytics analytics;
+    private final CheckInTokens checkInTokens;
+    private final CheckInBuffer checkIns;
+
+    private static final CursorPaging.SortKeys EVENT_SORT =
+            CursorPaging.SortKeys.of("id", "id", "id", "name", "name", "date", "date");
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final CursorPaging.SortKeys SCHEDULE_SORT =
+            CursorPaging.SortKeys.of("id", "start", "startTime").withType("startTime", LocalDateTime.class);
 
     // ---------------- AUTH ----------------
 
@@ -29,18 +54,21 @@ public class StudentServiceImpl implements StudentService {
         if (studentRepo.findByEmail(student.getEmail()).isPresent())
             throw new RuntimeException("Email already exists");
         studentRepo.save(student);
+        directory.index(student);
         return "Signup successful";
     }
 
     @Override
     public String login(String email, String password, HttpSession session) {
-        Student student = studentRepo.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+        Student student = studentRepo.findByEmail(email).orElse(null);
 
-        if (!student.getPassword().equals(password))
+        if (student == null || !student.getPassword().equals(password)) {
+            metrics.login(SessionPrincipal.STUDENT, false);
             throw new RuntimeException("Invalid credentials");
+        }
 
-        session.setAttribute("student", student);
+        SessionPrincipal.of(student).storeIn(session);
+        metrics.login(SessionPrincipal.STUDENT, true);
         return "Login successful";
     }
 
@@ -49,39 +77,57 @@ public class StudentServiceImpl implements StudentService {
         session.invalidate();
     }
 
+    private EventDTO toEventDTO(Event e) {
+        return new EventDTO(
+                e.getId(),
+                e.getName(),
+                e.getDescription(),
+                e.getDate(),
+                e.getVenue(),
+                e.getFaculty() != null ? e.getFaculty().getName() : "Unassigned",
+                e.getFaculty() != null ? e.getFaculty().getEmail() : null,
+                e.getFaculty() != null ? e.getFaculty().getDepartment() : null,
+                e.getStartTime(),
+                e.getEndTime()
+        );
+    }
+
+    private Long currentStudentId(HttpSession session) {
+        return SessionPrincipal.from(session, SessionPrincipal.STUDENT)
+                .orElseThrow(() -> new PortalException(PortalException.Reason.UNAUTHORIZED, "Unauthorized"))
+                .id();
+    }
+
     // ---------------- PROFILE ----------------
 
     @Override
     public Student getProfile(HttpSession session) {
-        Student s = (Student) session.getAttribute("student");
-        if (s == null) throw new RuntimeException("Unauthorized");
-        return s;
+        return studentRepo.findById(currentStudentId(session))
+                .orElseThrow(() -> new RuntimeException("Student not found"));
     }
 
     @Override
+    @Transactional
     public Student updateOwnProfile(HttpSession session, Student updatedStudent) {
-        Student s = (Student) session.getAttribute("student");
-        if (s == null) throw new RuntimeException("Unauthorized");
-
-        Student student = studentRepo.findById(s.getId())
+        Student student = studentRepo.findById(currentStudentId(session))
                 .orElseThrow(() -> new RuntimeException("Student not found"));
 
         student.setName(updatedStudent.getName());
         student.setPhone(updatedStudent.getPhone());
+        analytics.departmentChanged(student.getId(), student.getDepartment(), updatedStudent.getDepartment());
         student.setDepartment(updatedStudent.getDepartment());
         student.setGender(updatedStudent.getGender());
 
         Student saved = studentRepo.save(student);
-        session.setAttribute("student", saved);
+        directory.index(saved);
+        SessionPrincipal.of(saved).storeIn(session);
         return saved;
     }
 
     @Override
+    @Transactional
     public String updatePassword(HttpSession session, String oldPassword, String newPassword) {
-        Student s = (Student) session.getAttribute("student");
-        if (s == null) throw new RuntimeException("Unauthorized");
-
-        Student student = studentRepo.findById(s.getId())
+        Student student = studentRepo.findById(currentStudentId(session))
                 .orElseThrow(() -> new RuntimeException("Student not found"));
 
         if (!student.getPassword().equals(oldPassword))
@@ -89,7 +135,6 @@ public class StudentServiceImpl implements StudentService {
 
         student.setPassword(newPassword);
         studentRepo.save(student);
-        session.setAttribute("student", student);
         return "Password updated successfully";
     }
 
@@ -97,90 +142,160 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     public String registerEvent(HttpSession session, Long eventId) {
-        Student s = (Student) session.getAttribute("student");
-        if (s == null) throw new RuntimeException("Unauthorized");
-
-        Event e = eventRepo.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-
-        if (studentEventRepo.existsByStudentAndEvent(s, e))
-            throw new RuntimeException("Already registered");
-
-        StudentEvent se = new StudentEvent();
-        se.setStudent(s);
-        se.setEvent(e);
-        se.setAttendance(null);
-        studentEventRepo.save(se);
+        Long studentId = currentStudentId(session);
+        Timer.Sample sample = metrics.start();
+
+        try {
+            try {
+                seatService.register(studentId, eventId);
+            } catch (DataIntegrityViolationException ex) {
+                // unique (student, event) key or a missing event; only look further on this failure path
+                if (!eventRepo.existsById(eventId)) throw PortalException.notFound("Event not found");
+                throw new PortalException(PortalException.Reason.DUPLICATE, "Already registered");
+            }
+        } catch (RuntimeException ex) {
+            metrics.registration(sample, PortalMetrics.outcomeOf(ex));
+            throw ex;
+        }
 
+        metrics.registration(sample, "registered");
         return "Event registered successfully";
     }
 
     @Override
     public String unregisterEvent(HttpSession session, Long eventId) {
-        Student s = (Student) session.getAttribute("student");
-        if (s == null) throw new RuntimeException("Unauthorized");
+        Long studentId = currentStudentId(session);
+        Timer.Sample sample = metrics.start();
+
+        if (!seatService.unregister(studentId, eventId)) {
+            PortalException ex = eventRepo.existsById(eventId)
+                    ? new PortalException(PortalException.Reason.NOT_REGISTERED, "Not registered for this event")
+                    : PortalException.notFound("Event not found");
+            metrics.unregistration(sample, PortalMetrics.outcomeOf(ex));
+            throw ex;
+        }
+        metrics.unregistration(sample, "unregistered");
+        return "Unregistered from event";
+    }
 
-        Event e = eventRepo.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventDTO> getAllEvents() {
+        return eventRepo.findAll().stream().map(this::toEventDTO).toList();
+    }
 
-        StudentEvent se = studentEventRepo.findByStudentAndEvent(s, e)
-                .orElseThrow(() -> new RuntimeException("Not registered for this event"));
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EventDTO> getEventsPage(String cursor, Integer limit, String sort) {
+        String sortKey = EVENT_SORT.resolve(sort);
+        Window<Event> window = eventRepo.findBy(
+                CursorPaging.position(cursor, EVENT_SORT, sortKey), EVENT_SORT.sort(sortKey), CursorPaging.limit(limit));
 
-        studentEventRepo.delete(se);
-        return "Unregistered from event";
+        return CursorPaging.page(window, sortKey, events -> events.stream().map(this::toEventDTO).toList());
     }
 
     @Override
-    public List<EventDTO> getAllEvents() {
-        return eventRepo.findAll().stream()
-                .map(e -> new EventDTO(
-                        e.getId(),
-                        e.getName(),
-                        e.getDescription(),
-                        e.getDate(),
-                        e.getVenue(),
-                        e.getFaculty() != null ? e.getFaculty().getName() : "Unassigned",
-                        e.getFaculty() != null ? e.getFaculty().getEmail() : null,
-                        e.getFaculty() != null ? e.getFaculty().getDepartment() : null
-                )).toList();
+    @Transactional(readOnly = true)
+    public List<EventDTO> searchEvents(String query, Integer limit) {
+        if (limit != null && limit < 1) throw PortalException.invalid("limit must be positive");
+        List<Long> ids = searchIndex.search(query, limit == null ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT));
+        if (ids.isEmpty()) return List.of();
+
+        Map<Long, Event> byId = new HashMap<>();
+        for (Event e : eventRepo.findByIdIn(ids)) byId.put(e.getId(), e);
+        // Hits keep the index's ranking; ids deleted since they were indexed are skipped
+        return ids.stream().map(byId::get).filter(Objects::nonNull).map(this::toEventDTO).toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EventDTO> getUpcomingEvents(String cursor, Integer limit) {
+        String sortKey = SCHEDULE_SORT.resolve(null);
+        Window<Event> window = eventRepo.findByStartTimeGreaterThanEqual(LocalDate.now().atStartOfDay(),
+                CursorPaging.position(cursor, SCHEDULE_SORT, sortKey), SCHEDULE_SORT.sort(sortKey), CursorPaging.limit(limit));
+        return CursorPaging.page(window, sortKey, events -> events.stream().map(this::toEventDTO).toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EventDTO> getPastEvents(String cursor, Integer limit) {
+        // Most recent first
+        String sortKey = SCHEDULE_SORT.resolve(null);
+        Window<Event> window = eventRepo.findByStartTimeLessThan(LocalDate.now().atStartOfDay(),
+                CursorPaging.position(cursor, SCHEDULE_SORT, sortKey), SCHEDULE_SORT.sort(sortKey).descending(),
+                CursorPaging.limit(limit));
+        return CursorPaging.page(window, sortKey, events -> events.stream().map(this::toEventDTO).toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EventDTO> getEventsBetween(LocalDate from, LocalDate to, String cursor, Integer limit) {
+        if (from == null || to == null) throw PortalException.invalid("from and to are required");
+        if (to.isBefore(from)) throw PortalException.invalid("to must not be before from");
+
+        String sortKey = SCHEDULE_SORT.resolve(null);
+        Window<Event> window = eventRepo.findByStartTimeGreaterThanEqualAndStartTimeLessThan(
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                CursorPaging.position(cursor, SCHEDULE_SORT, sortKey), SCHEDULE_SORT.sort(sortKey), CursorPaging.limit(limit));
+        return CursorPaging.page(window, sortKey, events -> events.stream().map(this::toEventDTO).toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<EventDTO> getRegisteredEvents(HttpSession session) {
-        Student s = (Student) session.getAttribute("student");
-        if (s == null) throw new RuntimeException("Unauthorized");
+        Long studentId = currentStudentId(session);
 
-        List<StudentEvent> regs = studentEventRepo.findByStudent(s);
+        List<StudentEvent> regs = studentEventRepo.findByStudent(studentRepo.getReferenceById(studentId));
         List<EventDTO> events = new ArrayList<>();
 
         for (StudentEvent se : regs) {
-            Event e = se.getEvent();
-            events.add(new EventDTO(
-                    e.getId(),
-                    e.getName(),
-                    e.getDescription(),
-                    e.getDate(),
-                    e.getVenue(),
-                    e.getFaculty() != null ? e.getFaculty().getName() : "Unassigned",
-                    e.getFaculty() != null ? e.getFaculty().getEmail() : null,
-                    e.getFaculty() != null ? e.getFaculty().getDepartment() : null
-            ));
+            events.add(toEventDTO(se.getEvent()));
         }
 
         return events;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public AttendanceSummaryDTO getAttendanceSummary(HttpSession session) {
+        List<RegisteredEventAttendance> events = studentEventRepo.findRegisteredEventAttendance(currentStudentId(session));
+
+        long present = 0, absent = 0;
+        for (RegisteredEventAttendance e : events) {
+            if (Boolean.TRUE.equals(e.attendance())) present++;
+            else if (Boolean.FALSE.equals(e.attendance())) absent++;
+        }
+        return new AttendanceSummaryDTO(events, present, absent, events.size() - present - absent);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Boolean getAttendance(HttpSession session, Long eventId) {
-        Student s = (Student) session.getAttribute("student");
-        if (s == null) throw new RuntimeException("Unauthorized");
+        Long studentId = currentStudentId(session);
+
+        return studentEventRepo.findAttendance(eventId, studentId);
+    }
 
-        return studentEventRepo.findAttendance(eventId, s.getId());
+    // Verified and queued in memory; the attendance write happens in the next CheckInBuffer flush,
+    // which drops students not registered for the event, so the reply only promises the queueing
+    @Override
+    public String checkIn(HttpSession session, String token) {
+        Long studentId = currentStudentId(session);
+        try {
+            checkIns.add(checkInTokens.verify(token), studentId);
+        } catch (RuntimeException ex) {
+            metrics.checkIn(!(ex instanceof PortalException p) ? "error"
+                    : p.reason() == PortalException.Reason.EXPIRED ? "expired" : "invalid");
+            throw ex;
+        }
+        metrics.checkIn("accepted");
+        return "Check-in queued; attendance is recorded if you are registered for this event";
     }
 
     // ---------------- ADMIN ----------------
 
     @Override
+    @Transactional
     public Student updateStudent(Long id, Student updatedStudent) {
         Student student = studentRepo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
@@ -188,29 +303,18 @@ public class StudentServiceImpl implements StudentService {
         student.setName(updatedStudent.getName());
         student.setEmail(updatedStudent.getEmail());
         student.setPhone(updatedStudent.getPhone());
+        analytics.departmentChanged(student.getId(), student.getDepartment(), updatedStudent.getDepartment());
         student.setDepartment(updatedStudent.getDepartment());
         student.setGender(updatedStudent.getGender());
 
-        return studentRepo.save(student);
+        Student saved = studentRepo.save(student);
+        directory.index(saved);
+        return saved;
     }
 
     @Override
-    public List<Map<String, Object>> getAllStudentsWithEventCount() {
-        List<Student> students = studentRepo.findAll();
-        List<Map<String, Object>> result = new ArrayList<>();
-
-        for (Student s : students) {
-            Map<String, Object> map = new HashMap<>();
-            map.put("id", s.getId());
-            map.put("name", s.getName());
-            map.put("email", s.getEmail());
-            map.put("phone", s.getPhone());
-            map.put("gender", s.getGender());
-            map.put("department", s.getDepartment());
-            map.put("eventCount", studentEventRepo.findByStudent(s).size());
-            result.add(map);
-        }
-
-        return result;
+    @Transactional(readOnly = true)
+    public List<StudentEventCountDTO> getAllStudentsWithEventCount() {
+        return studentEventRepo.countEventsPerStudent();
     }
 }
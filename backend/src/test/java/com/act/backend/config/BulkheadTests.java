@@ -0,0 +1,93 @@
+package com.act.backend.config;
+
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.StudentRepository;
+import com.act.backend.services.Bulkheads;
+import com.act.backend.services.Bulkheads.Workload;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "portal.bulkhead.reporting.max-concurrent=1",
+        "portal.bulkhead.reporting.max-wait=50ms"
+})
+@AutoConfigureMockMvc
+class BulkheadTests {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private Bulkheads bulkheads;
+    @Autowired
+    private MeterRegistry registry;
+    @Autowired
+    private StudentRepository studentRepo;
+
+    @AfterEach
+    void cleanUp() {
+        studentRepo.deleteAll();
+    }
+
+    @Test
+    void endpointsAreSortedIntoWorkloads() {
+        assertThat(BulkheadConfig.classify("POST", "/api/students/login")).isEqualTo(Workload.AUTH);
+        assertThat(BulkheadConfig.classify("PUT", "/api/students/profile/password")).isEqualTo(Workload.AUTH);
+        assertThat(BulkheadConfig.classify("POST", "/api/faculty/register")).isEqualTo(Workload.AUTH);
+        assertThat(BulkheadConfig.classify("POST", "/api/students/register-event/{eventId}")).isEqualTo(Workload.REGISTRATION);
+        assertThat(BulkheadConfig.classify("POST", "/api/students/check-in")).isEqualTo(Workload.REGISTRATION);
+        assertThat(BulkheadConfig.classify("POST", "/api/faculty/events/{eventId}/attendance/bulk")).isEqualTo(Workload.ATTENDANCE);
+        assertThat(BulkheadConfig.classify("GET", "/api/faculty/events/{eventId}/attendance.csv")).isEqualTo(Workload.REPORTING);
+        assertThat(BulkheadConfig.classify("POST", "/api/admin/import/students")).isEqualTo(Workload.REPORTING);
+        assertThat(BulkheadConfig.classify("GET", "/api/admin/events/{eventId}/students")).isEqualTo(Workload.REPORTING);
+        assertThat(BulkheadConfig.classify("GET", "/api/students/events/search")).isEqualTo(Workload.CATALOG);
+        assertThat(BulkheadConfig.classify("GET", "/api/faculty/events/{eventId}/students")).isEqualTo(Workload.CATALOG);
+
+        assertThat(BulkheadConfig.classify("GET", "/api/students/profile")).isNull();
+        assertThat(BulkheadConfig.classify("GET", "/api/admin/me")).isNull();
+        assertThat(BulkheadConfig.classify("GET", "/api/faculty/events/{eventId}/feed")).isNull();
+        assertThat(BulkheadConfig.classify("OPTIONS", "/api/admin/students")).isNull();
+    }
+
+    @Test
+    void aSaturatedWorkloadIsTurnedAwayWithoutBlockingOthers() throws Exception {
+        Student bea = new Student();
+        bea.setName("Bea");
+        bea.setEmail("bea@uni.edu");
+        bea.setPassword("pw");
+        bea = studentRepo.save(bea);
+        MockHttpSession student = new MockHttpSession();
+        SessionPrincipal.of(bea).storeIn(student);
+        MockHttpSession admin = new MockHttpSession();
+        new SessionPrincipal(1L, SessionPrincipal.ADMIN, "Admin").storeIn(admin);
+
+        try (Bulkheads.Permit held = bulkheads.acquire(Workload.REPORTING)) {
+            assertThat(bulkheads.get(Workload.REPORTING).inFlight()).isEqualTo(1);
+            assertThatThrownBy(() -> bulkheads.acquire(Workload.REPORTING)).isInstanceOf(Bulkheads.Full.class);
+
+            mvc.perform(get("/api/admin/students").session(admin))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+            mvc.perform(get("/api/students/profile").session(student))
+                    .andExpect(status().isOk());
+        }
+
+        mvc.perform(get("/api/admin/students").session(admin)).andExpect(status().isOk());
+        assertThat(bulkheads.get(Workload.REPORTING).inFlight()).isZero();
+        assertThat(registry.get("portal.bulkhead.wait").tags("workload", "reporting", "outcome", "rejected")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get("portal.bulkhead.limit").tag("workload", "reporting").gauge().value()).isEqualTo(1);
+    }
+}
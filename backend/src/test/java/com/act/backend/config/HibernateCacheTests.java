@@ -0,0 +1,63 @@
+package com.act.backend.config;
+
+import com.act.backend.dto.EventDTO;
+import com.act.backend.models.Event;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.services.AdminService;
+import com.act.backend.services.StudentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class HibernateCacheTests {
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private MeterRegistry registry;
+
+    @AfterEach
+    void cleanUp() {
+        eventRepo.deleteAll();
+    }
+
+    @Test
+    void catalogIsServedFromCacheUntilAnEventChanges() {
+        Event event = adminService.addEvent(Map.of("name", "Robotics", "venue", "Hall A"));
+        studentService.getAllEvents();
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        studentService.getAllEvents();
+        eventRepo.findById(event.getId());
+        assertThat(stats.getPrepareStatementCount()).isZero();
+
+        adminService.updateEvent(event.getId(), Map.of("venue", "Hall B"));
+        List<EventDTO> events = studentService.getAllEvents();
+
+        assertThat(events).extracting(EventDTO::getVenue).containsExactly("Hall B");
+    }
+
+    @Test
+    void cacheMetricsAreRegistered() {
+        assertThat(registry.find("hibernate.second.level.cache.requests").meters()).isNotEmpty();
+        assertThat(registry.find("cache.evictions").tag("cache", "com.act.backend.models.Event").meters()).isNotEmpty();
+    }
+}
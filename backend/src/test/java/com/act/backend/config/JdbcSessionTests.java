@@ -0,0 +1,73 @@
+package com.act.backend.config;
+
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.StudentRepository;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "portal.session.store=jdbc")
+@AutoConfigureMockMvc
+class JdbcSessionTests {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private FindByIndexNameSessionRepository<? extends Session> sessionRepo;
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM SPRING_SESSION");
+        studentRepo.deleteAll();
+    }
+
+    @Test
+    void loginIsCarriedBySessionRowNotContainerMemory() throws Exception {
+        Student s = new Student();
+        s.setName("Nomad");
+        s.setEmail("nomad@example.com");
+        s.setPassword("secret");
+        studentRepo.save(s);
+
+        Cookie cookie = mvc.perform(post("/api/students/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"nomad@example.com\",\"password\":\"secret\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie("SESSION");
+
+        assertThat(sessionRepo).isInstanceOf(JdbcIndexedSessionRepository.class);
+        assertThat(cookie).isNotNull();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM SPRING_SESSION", Integer.class)).isEqualTo(1);
+
+        // Only the cookie goes back, as it would to another node behind the load balancer
+        mvc.perform(get("/api/students/profile").cookie(cookie))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("nomad@example.com"));
+
+        String id = new String(Base64.getDecoder().decode(cookie.getValue()));
+        SessionPrincipal principal = sessionRepo.findById(id).getAttribute(SessionPrincipal.STUDENT);
+        assertThat(principal).isEqualTo(new SessionPrincipal(s.getId(), SessionPrincipal.STUDENT, "Nomad"));
+    }
+}
@@ -0,0 +1,208 @@
+package com.act.backend.config;
+
+import com.act.backend.dto.EventDTO;
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.models.Admin;
+import com.act.backend.models.Event;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.AdminRepository;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import com.act.backend.repositories.StudentRepository;
+import com.act.backend.services.AdminService;
+import com.act.backend.services.AttendanceAnalytics;
+import com.act.backend.services.StudentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The replica is a second in-memory database brought up to date by replicate(), so the tests
+// decide exactly when "replication" happens
+@SpringBootTest(properties = {
+        "portal.datasource.replica.url=" + ReadReplicaRoutingTests.REPLICA_URL,
+        "portal.datasource.replica.read-your-writes=1m"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTests {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private AttendanceAnalytics analytics;
+    @Autowired
+    private AdminRepository adminRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private EventSeatRepository seatRepo;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private MeterRegistry registry;
+    @Autowired
+    private Replication replication;
+
+    @AfterEach
+    void cleanUp() {
+        seatRepo.deleteAll();
+        eventRepo.deleteAll();
+        studentRepo.deleteAll();
+        adminRepo.deleteAll();
+        analytics.rebuild();
+        replication.replicate();
+    }
+
+    @Test
+    void readOnlyServiceMethodsReadFromTheReplica() {
+        // Drop the mock request the test framework binds, so nothing here is pinned to the primary
+        RequestContextHolder.resetRequestAttributes();
+        adminService.addEvent(Map.of("name", "Replica lag"));
+
+        assertThat(studentService.getEventsPage(null, 50, null).items()).extracting(EventDTO::getName)
+                .doesNotContain("Replica lag");
+
+        replication.replicate();
+
+        assertThat(studentService.getEventsPage(null, 50, null).items()).extracting(EventDTO::getName)
+                .contains("Replica lag");
+        assertThat(registry.get("portal.datasource.routed").tag("target", "replica").counter().count()).isPositive();
+        assertThat(registry.get("portal.datasource.routed").tag("target", "primary").counter().count()).isPositive();
+        assertThat(registry.get("hikaricp.connections").tag("pool", "replica").gauge()).isNotNull();
+        assertThat(registry.get("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+    }
+
+    @Test
+    void replicaReadsDoNotCacheWhatTheReplicaHasNotCaughtUpWith() {
+        RequestContextHolder.resetRequestAttributes();
+        eventRepo.findAll();   // the catalog query is cached from the primary
+        adminService.addEvent(Map.of("name", "Late arrival"));
+
+        assertThat(studentService.getAllEvents()).extracting(EventDTO::getName).doesNotContain("Late arrival");
+
+        // A repository call outside a read-only service method reads the primary, through the cache
+        assertThat(eventRepo.findAll()).extracting(Event::getName).contains("Late arrival");
+    }
+
+    @Test
+    void readModifyWriteMethodsReadThePrimary() {
+        RequestContextHolder.resetRequestAttributes();
+        Student bea = new Student();
+        bea.setName("Bea");
+        bea.setEmail("bea@uni.edu");
+        bea.setPassword("one");
+        bea = studentRepo.save(bea);
+        replication.replicate();
+        MockHttpSession session = new MockHttpSession();
+        SessionPrincipal.of(bea).storeIn(session);
+
+        studentService.updatePassword(session, "one", "two");
+
+        // The replica still has "one"; the check has to see the committed change
+        assertThat(studentService.updatePassword(session, "two", "three")).isEqualTo("Password updated successfully");
+        assertThat(studentRepo.findById(bea.getId()).orElseThrow().getPassword()).isEqualTo("three");
+    }
+
+    @Test
+    void writerSeesItsOwnChangeWhileOthersWaitForTheReplica() throws Exception {
+        adminRepo.save(new Admin(null, "writer", "writer@uni.edu", "secret"));
+        adminRepo.save(new Admin(null, "other", "other@uni.edu", "secret"));
+        replication.replicate();
+        MockHttpSession writer = login("writer@uni.edu");
+        MockHttpSession other = login("other@uni.edu");
+
+        mvc.perform(post("/api/admin/create-event").session(writer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Fresh event\"}"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/admin/events").param("limit", "50").session(writer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", hasItem("Fresh event")));
+        mvc.perform(get("/api/admin/events").param("limit", "50").session(other))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", not(hasItem("Fresh event"))));
+
+        replication.replicate();
+        mvc.perform(get("/api/admin/events").param("limit", "50").session(other))
+                .andExpect(jsonPath("$.items[*].name", hasItem("Fresh event")));
+    }
+
+    private MockHttpSession login(String email) throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        mvc.perform(post("/api/admin/login").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"secret\"}"))
+                .andExpect(status().isOk());
+        return session;
+    }
+
+    @TestConfiguration
+    static class Replication {
+
+        private final DataSource primary;
+
+        Replication(@Qualifier("primaryDataSource") DataSource primary) {
+            this.primary = primary;
+        }
+
+        // So the replica has the schema before anything reads from it
+        @EventListener(ContextRefreshedEvent.class)
+        void initialCopy() {
+            replicate();
+        }
+
+        void replicate() {
+            try {
+                File dump = File.createTempFile("replica", ".sql");
+                try (Connection source = primary.getConnection(); Statement s = source.createStatement()) {
+                    s.execute("SCRIPT TO '" + dump.getAbsolutePath() + "'");
+                }
+                try (Connection target = DriverManager.getConnection(REPLICA_URL, "sa", "");
+                     Statement s = target.createStatement()) {
+                    s.execute("DROP ALL OBJECTS");
+                    s.execute("RUNSCRIPT FROM '" + dump.getAbsolutePath() + "'");
+                }
+                dump.delete();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Replication failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.act.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs against its own database: the application schema already has the unique key, so it cannot hold duplicates
+class RegistrationDeduplicationTests {
+
+    @Test
+    void keepsTheOldestRowOfEachDuplicatePair() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:legacy;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        RegistrationDeduplicationConfig.RegistrationDeduplication deduplication =
+                new RegistrationDeduplicationConfig.RegistrationDeduplication(dataSource);
+
+        assertThat(deduplication.run()).as("fresh database, no table yet").isZero();
+
+        jdbc.execute("CREATE TABLE student_event (id BIGINT AUTO_INCREMENT PRIMARY KEY, student_id BIGINT, event_id BIGINT, attendance BOOLEAN)");
+        jdbc.update("INSERT INTO student_event (student_id, event_id, attendance) VALUES (1, 10, TRUE), (1, 10, TRUE), (2, 10, NULL), (1, 11, NULL), (1, 10, TRUE)");
+
+        assertThat(deduplication.run()).isEqualTo(2);
+
+        assertThat(jdbc.queryForList("SELECT id FROM student_event ORDER BY id", Long.class)).containsExactly(1L, 3L, 4L);
+        jdbc.execute("ALTER TABLE student_event ADD CONSTRAINT uk_student_event UNIQUE (student_id, event_id)");
+        jdbc.execute("DROP TABLE student_event");
+    }
+}
@@ -0,0 +1,76 @@
+package com.act.backend.config;
+
+import com.act.backend.models.Student;
+import com.act.backend.repositories.StudentRepository;
+import com.act.backend.services.AdminService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.act.backend.support.SqlStatementAssertions.assertStatementCount;
+import static com.act.backend.support.SqlStatementAssertions.countStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "portal.sql.statement-threshold=1")
+@AutoConfigureMockMvc
+class SqlStatementMetricsTests {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private MeterRegistry registry;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private StudentRepository studentRepo;
+
+    @AfterEach
+    void cleanUp() {
+        studentRepo.deleteAll();
+    }
+
+    @Test
+    void requestsAreCountedPerEndpointAndFailAboveThreshold() throws Exception {
+        // login: a single findByEmail, inside the threshold
+        mvc.perform(post("/api/students/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"nobody@example.com\",\"password\":\"x\"}"))
+                .andExpect(status().isUnauthorized());
+
+        // signup: email check + insert, over the threshold of 1
+        assertThatThrownBy(() -> mvc.perform(post("/api/students/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"N\",\"email\":\"n@example.com\",\"password\":\"x\"}")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("POST /api/students/signup issued 2 SQL statements");
+
+        DistributionSummary login = registry.get("portal.sql.statements").tag("uri", "/api/students/login").summary();
+        DistributionSummary signup = registry.get("portal.sql.statements").tag("uri", "/api/students/signup").summary();
+        assertThat(login.max()).isEqualTo(1);
+        assertThat(signup.max()).isEqualTo(2);
+        assertThat(registry.get("portal.sql.statement.threshold.exceeded").tag("uri", "/api/students/signup").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void assertionApiPinsServiceQueryCounts() {
+        for (int i = 0; i < 3; i++) {
+            Student s = new Student();
+            s.setName("S" + i);
+            s.setEmail("s" + i + "@example.com");
+            studentRepo.save(s);
+        }
+
+        assertStatementCount(1, () -> adminService.getAllStudentsWithEvents());
+        assertThat(countStatements(() -> studentRepo.findByEmail("s1@example.com"))).isEqualTo(1);
+    }
+}
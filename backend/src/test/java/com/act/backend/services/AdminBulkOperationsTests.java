@@ -0,0 +1,187 @@
+package com.act.backend.services;
+
+import com.act.backend.models.EmailOutbox;
+import com.act.backend.models.Event;
+import com.act.backend.models.Faculty;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.EmailOutboxRepository;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import com.act.backend.repositories.FacultyRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.act.backend.support.SqlStatementAssertions.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class AdminBulkOperationsTests {
+
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private EventSeatService seatService;
+    @Autowired
+    private AttendanceAnalytics analytics;
+    @Autowired
+    private EventSearchIndex searchIndex;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private FacultyRepository facultyRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private EventSeatRepository seatRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+    @Autowired
+    private EmailOutboxRepository outboxRepo;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private TransactionTemplate tx;
+
+    @AfterEach
+    void cleanUp() {
+        outboxRepo.deleteAll();
+        studentEventRepo.deleteAll();
+        seatRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+        facultyRepo.deleteAll();
+        analytics.rebuild();
+    }
+
+    @Test
+    void approvingManyFacultyQueuesOneMailEachInTwoStatements() {
+        Faculty ada = faculty("ada@uni.edu", false);
+        Faculty bo = faculty("bo@uni.edu", false);
+        Faculty done = faculty("done@uni.edu", true);
+        Faculty waiting = faculty("waiting@uni.edu", false);
+
+        String result = assertStatementCount(2,
+                () -> adminService.approveFaculties(List.of(ada.getId(), bo.getId(), done.getId(), bo.getId())));
+
+        assertThat(result).isEqualTo("2 faculty approved and emails sent");
+        assertThat(facultyRepo.findById(ada.getId()).orElseThrow().isApproved()).isTrue();
+        assertThat(facultyRepo.findById(waiting.getId()).orElseThrow().isApproved()).isFalse();
+        assertThat(outboxRepo.findAll()).extracting(EmailOutbox::getRecipient)
+                .containsExactlyInAnyOrder("ada@uni.edu", "bo@uni.edu");
+        EmailOutbox mail = outboxRepo.findAll().get(0);
+        assertThat(mail.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(mail.getNextAttemptAt()).isNotNull();
+        assertThat(mail.getBody()).endsWith("set-password?email=" + mail.getRecipient());
+
+        assertThatThrownBy(() -> adminService.approveFaculties(List.of())).hasMessage("No ids given");
+    }
+
+    @Test
+    void reassigningMovesEveryEventInOneUpdate() {
+        Faculty from = faculty("from@uni.edu", true);
+        Faculty to = faculty("to@uni.edu", true);
+        List<Event> events = events(from, 5);
+
+        String result = assertStatementCount(4, () -> adminService.reassignEvents(from.getId(), to.getId()));
+
+        assertThat(result).isEqualTo("5 events reassigned");
+        assertThat(eventRepo.findIdsByFacultyId(to.getId()))
+                .containsExactlyInAnyOrderElementsOf(events.stream().map(Event::getId).toList());
+        assertThat(analytics.faculty(to.getId()).events()).hasSize(5);
+        assertThat(analytics.faculty(from.getId()).events()).isEmpty();
+
+        // deleting with a replacement takes the same path and no longer cascades into the moved events
+        adminService.deleteFaculty(to.getId(), from.getId());
+        assertThat(eventRepo.findIdsByFacultyId(from.getId())).hasSize(5);
+        assertThat(facultyRepo.existsById(to.getId())).isFalse();
+    }
+
+    @Test
+    void deletingEventsIsSetBasedAndCleansEveryTable() {
+        Faculty owner = faculty("owner@uni.edu", true);
+        List<Event> events = events(owner, 3);
+        Event kept = events.get(2);
+        List<Student> students = students(4);
+        for (Student s : students) {
+            for (Event e : events) seatService.register(s.getId(), e.getId());
+        }
+        tx.executeWithoutResult(status ->
+                studentRepo.findById(students.get(0).getId()).orElseThrow().getRegisteredEvents().add(events.get(0)));
+        List<Long> doomed = List.of(events.get(0).getId(), events.get(1).getId());
+        facultyRepo.findById(owner.getId());
+
+        String result = assertStatementCount(5, () -> adminService.deleteEvents(doomed));
+
+        assertThat(result).isEqualTo("2 events deleted");
+        assertThat(eventRepo.findAllById(doomed)).isEmpty();
+        assertThat(seatRepo.findAllById(doomed)).isEmpty();
+        assertThat(studentEventRepo.count()).isEqualTo(4);
+        assertThat(seatRepo.findById(kept.getId()).orElseThrow().getRegistered()).isEqualTo(4);
+        assertThat(analytics.overview().totals().registered()).isEqualTo(4);
+        assertThat(analytics.event(doomed.get(0))).isNull();
+        assertThat(searchIndex.search("Bulk", 10)).containsExactly(kept.getId());
+        assertThat(emf.getCache().contains(Faculty.class, owner.getId())).isTrue();
+
+        assertThatThrownBy(() -> adminService.deleteEvent(doomed.get(0))).hasMessage("Event not found");
+    }
+
+    @Test
+    void deletingStudentsRecountsSeatsAndKeepsUnrelatedCacheEntries() {
+        Faculty owner = faculty("owner@uni.edu", true);
+        List<Event> events = events(owner, 2);
+        List<Student> students = students(5);
+        for (Student s : students) seatService.register(s.getId(), events.get(0).getId());
+        seatService.register(students.get(0).getId(), events.get(1).getId());
+        List<Long> leaving = List.of(students.get(0).getId(), students.get(1).getId(), students.get(2).getId());
+        facultyRepo.findById(owner.getId());
+
+        String result = assertStatementCount(5, () -> adminService.deleteStudents(leaving));
+
+        assertThat(result).isEqualTo("3 students and their registrations deleted");
+        assertThat(studentRepo.count()).isEqualTo(2);
+        assertThat(seatRepo.findById(events.get(0).getId()).orElseThrow().getRegistered()).isEqualTo(2);
+        assertThat(seatRepo.findById(events.get(1).getId()).orElseThrow().getRegistered()).isZero();
+        assertThat(analytics.event(events.get(0).getId()).registered()).isEqualTo(2);
+        assertThat(analytics.event(events.get(1).getId()).registered()).isZero();
+        assertThat(emf.getCache().contains(Faculty.class, owner.getId())).isTrue();
+    }
+
+    private Faculty faculty(String email, boolean approved) {
+        Faculty f = new Faculty();
+        f.setName(email);
+        f.setEmail(email);
+        f.setApproved(approved);
+        return facultyRepo.save(f);
+    }
+
+    private List<Event> events(Faculty owner, int count) {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(adminService.addEvent(Map.of("name", "Bulk " + i, "facultyId", owner.getId())));
+        }
+        return events;
+    }
+
+    private List<Student> students(int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Student s = new Student();
+            s.setName("Student " + i);
+            s.setEmail("student" + i + "@uni.edu");
+            s.setPassword("pw");
+            students.add(studentRepo.save(s));
+        }
+        return students;
+    }
+}
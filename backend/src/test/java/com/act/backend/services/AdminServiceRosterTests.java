@@ -0,0 +1,121 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.StudentEventCountDTO;
+import com.act.backend.dto.StudentWithEventsDTO;
+import com.act.backend.models.Event;
+import com.act.backend.models.Student;
+import com.act.backend.models.StudentEvent;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static com.act.backend.support.SqlStatementAssertions.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AdminServiceRosterTests {
+
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @AfterEach
+    void cleanUp() {
+        studentEventRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+    }
+
+    @Test
+    void rosterStatementCountDoesNotGrowWithStudents() {
+        List<Event> events = seedEvents(3);
+
+        seedStudents(5, events);
+        long small = countStatements();
+
+        seedStudents(50, events);
+        long large = countStatements();
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void rosterKeepsStudentsWithoutEvents() {
+        List<Event> events = seedEvents(2);
+        seedStudents(2, events);
+        Student loner = new Student();
+        loner.setName("Loner");
+        loner.setEmail("loner@example.com");
+        studentRepo.save(loner);
+
+        List<StudentWithEventsDTO> roster = adminService.getAllStudentsWithEvents();
+
+        assertThat(roster).hasSize(3);
+        assertThat(roster.get(0).getRegisteredEvents()).containsExactly("Event 0", "Event 1");
+        assertThat(roster.get(2).getRegisteredEvents()).isEmpty();
+    }
+
+    @Test
+    void eventCountsIncludeStudentsWithoutRegistrationsInOneStatement() {
+        List<Event> events = seedEvents(3);
+        seedStudents(2, events);
+        seedStudents(1, events.subList(0, 1));
+        seedStudents(1, List.of());
+
+        List<StudentEventCountDTO> counts = assertStatementCount(1, () -> studentEventRepo.countEventsPerStudent());
+
+        assertThat(counts).extracting(StudentEventCountDTO::name)
+                .containsExactly("Student 0", "Student 1", "Student 2", "Student 3");
+        assertThat(counts).extracting(StudentEventCountDTO::eventCount).containsExactly(3L, 3L, 1L, 0L);
+        assertThat(counts.get(3).email()).isEqualTo("student3@example.com");
+    }
+
+    private long countStatements() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        adminService.getAllStudentsWithEvents();
+        return stats.getPrepareStatementCount();
+    }
+
+    private List<Event> seedEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            Event e = new Event();
+            e.setName("Event " + i);
+            eventRepo.save(e);
+        }
+        return eventRepo.findAll();
+    }
+
+    private void seedStudents(int count, List<Event> events) {
+        long offset = studentRepo.count();
+        for (int i = 0; i < count; i++) {
+            Student s = new Student();
+            s.setName("Student " + (offset + i));
+            s.setEmail("student" + (offset + i) + "@example.com");
+            studentRepo.save(s);
+            for (Event e : events) {
+                StudentEvent se = new StudentEvent();
+                se.setStudent(s);
+                se.setEvent(e);
+                studentEventRepo.save(se);
+            }
+        }
+    }
+}
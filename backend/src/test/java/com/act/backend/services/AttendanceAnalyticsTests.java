@@ -0,0 +1,154 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.AttendanceMark;
+import com.act.backend.dto.AttendanceOverview;
+import com.act.backend.dto.AttendanceStats;
+import com.act.backend.models.Event;
+import com.act.backend.models.Faculty;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import com.act.backend.repositories.FacultyRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class AttendanceAnalyticsTests {
+
+    @Autowired
+    private AttendanceAnalytics analytics;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private FacultyService facultyService;
+    @Autowired
+    private EventSeatService seatService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private FacultyRepository facultyRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private EventSeatRepository seatRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+
+    @BeforeEach
+    void startFromTheDatabase() {
+        analytics.rebuild();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        studentEventRepo.deleteAll();
+        seatRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+        facultyRepo.deleteAll();
+        analytics.rebuild();
+    }
+
+    @Test
+    void countersFollowRegistrationsAndMarksAndMatchARecount() {
+        Faculty ada = faculty("ada@uni.edu");
+        Faculty alan = faculty("alan@uni.edu");
+        Event lecture = adminService.addEvent(Map.of("name", "Lecture", "facultyId", ada.getId()));
+        Event workshop = adminService.addEvent(Map.of("name", "Workshop", "facultyId", alan.getId()));
+        Student bea = student("bea@uni.edu", "Physics");
+        Student cy = student("cy@uni.edu", "Physics");
+        Student dee = student("dee@uni.edu", null);
+
+        seatService.register(bea.getId(), lecture.getId());
+        seatService.register(cy.getId(), lecture.getId());
+        seatService.register(dee.getId(), lecture.getId());
+        seatService.register(bea.getId(), workshop.getId());
+
+        facultyService.markAttendance(ada, lecture.getId(), bea.getId(), true);
+        facultyService.markAttendanceBulk(ada, lecture.getId(), List.of(
+                new AttendanceMark(cy.getId(), false),
+                new AttendanceMark(dee.getId(), true),
+                new AttendanceMark(bea.getId(), true)));   // already present, no change
+        facultyService.markAttendance(ada, lecture.getId(), dee.getId(), false);
+
+        assertThat(analytics.event(lecture.getId()))
+                .isEqualTo(new AttendanceStats(String.valueOf(lecture.getId()), 3, 1, 2, 0, 1.0 / 3));
+        assertThat(analytics.overview().departments())
+                .extracting(AttendanceStats::key, AttendanceStats::registered, AttendanceStats::present)
+                .containsExactly(tuple("Physics", 3L, 1L), tuple(AttendanceAnalytics.NO_DEPARTMENT, 1L, 0L));
+        assertThat(facultyService.getAttendanceAnalytics(alan).totals())
+                .extracting(AttendanceStats::registered, AttendanceStats::notMarked).containsExactly(1L, 1L);
+
+        assertThat(seatService.unregister(cy.getId(), lecture.getId())).isTrue();
+        assertThat(seatService.unregister(cy.getId(), lecture.getId())).isFalse();
+        AttendanceOverview incremental = analytics.overview();
+        assertThat(incremental.totals().registered()).isEqualTo(3);
+        assertThat(incremental.totals().absent()).isEqualTo(1);
+
+        analytics.rebuild();
+        assertThat(analytics.overview()).isEqualTo(incremental);
+    }
+
+    @Test
+    void reassignmentsDepartmentChangesAndDeletesMoveTheTotals() {
+        Faculty ada = faculty("ada@uni.edu");
+        Faculty alan = faculty("alan@uni.edu");
+        Event lecture = adminService.addEvent(Map.of("name", "Lecture", "facultyId", ada.getId()));
+        Event seminar = adminService.addEvent(Map.of("name", "Seminar", "facultyId", ada.getId()));
+        Student bea = student("bea@uni.edu", "Physics");
+        seatService.register(bea.getId(), lecture.getId());
+        seatService.register(bea.getId(), seminar.getId());
+        facultyService.markAttendance(ada, lecture.getId(), bea.getId(), true);
+
+        adminService.reassignEvent(lecture.getId(), alan.getId());
+        assertThat(facultyService.getAttendanceAnalytics(alan).totals().present()).isEqualTo(1);
+        assertThat(facultyService.getAttendanceAnalytics(ada).events())
+                .extracting(AttendanceStats::key).containsExactly(String.valueOf(seminar.getId()));
+
+        Student moved = new Student();
+        moved.setName(bea.getName());
+        moved.setEmail(bea.getEmail());
+        moved.setDepartment("Chemistry");
+        adminService.updateStudent(bea.getId(), moved);
+        assertThat(analytics.overview().departments())
+                .extracting(AttendanceStats::key, AttendanceStats::registered).containsExactly(tuple("Chemistry", 2L));
+
+        adminService.deleteEvent(seminar.getId());
+        assertThat(analytics.event(seminar.getId())).isNull();
+        assertThat(facultyService.getAttendanceAnalytics(ada).totals().registered()).isZero();
+        assertThatThrownBy(() -> adminService.getEventAttendance(seminar.getId())).hasMessage("Event not found");
+
+        AttendanceOverview incremental = analytics.overview();
+        analytics.rebuild();
+        assertThat(analytics.overview()).isEqualTo(incremental);
+    }
+
+    private Student student(String email, String department) {
+        Student s = new Student();
+        s.setName(email);
+        s.setEmail(email);
+        s.setDepartment(department);
+        s.setPassword("pw");
+        return studentRepo.save(s);
+    }
+
+    private Faculty faculty(String email) {
+        Faculty f = new Faculty();
+        f.setName(email);
+        f.setEmail(email);
+        f.setApproved(true);
+        return facultyRepo.save(f);
+    }
+}
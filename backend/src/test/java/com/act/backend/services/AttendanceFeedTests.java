@@ -0,0 +1,152 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.AttendanceMark;
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.models.Event;
+import com.act.backend.models.Faculty;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import com.act.backend.repositories.FacultyRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AttendanceFeedTests {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private AttendanceFeed feed;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private FacultyService facultyService;
+    @Autowired
+    private EventSeatService seatService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private FacultyRepository facultyRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private EventSeatRepository seatRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+
+    @AfterEach
+    void cleanUp() {
+        studentEventRepo.deleteAll();
+        seatRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+        facultyRepo.deleteAll();
+    }
+
+    @Test
+    void subscribersReceiveRegistrationAndAttendanceDeltasForTheirEvent() throws Exception {
+        Faculty ada = faculty("ada@uni.edu");
+        Event lecture = adminService.addEvent(Map.of("name", "Lecture", "facultyId", ada.getId()));
+        Event other = adminService.addEvent(Map.of("name", "Other", "facultyId", ada.getId()));
+        Student bea = student("bea@uni.edu");
+        Student cy = student("cy@uni.edu");
+
+        int before = feed.subscriberCount();
+        MockHttpSession session = new MockHttpSession();
+        new SessionPrincipal(1L, SessionPrincipal.ADMIN, "Admin").storeIn(session);
+        MvcResult started = mvc.perform(get("/api/admin/events/" + lecture.getId() + "/feed").session(session))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(feed.subscriberCount()).isEqualTo(before + 1);
+        MockHttpServletResponse stream = started.getResponse();
+        awaitContent(stream, "event:ready");
+
+        seatService.register(bea.getId(), lecture.getId());
+        seatService.register(cy.getId(), lecture.getId());
+        seatService.register(bea.getId(), other.getId());
+        facultyService.markAttendance(ada, lecture.getId(), bea.getId(), true);
+        facultyService.markAttendanceBulk(ada, lecture.getId(), List.of(new AttendanceMark(cy.getId(), false)));
+        seatService.unregister(cy.getId(), lecture.getId());
+
+        String body = awaitContent(stream, "event:unregistered");
+        assertThat(body).contains("\"email\":\"bea@uni.edu\"", "\"email\":\"cy@uni.edu\"");
+        assertThat(body).contains("\"studentIds\":[" + bea.getId() + "],\"attendance\":true");
+        assertThat(body).contains("\"studentIds\":[" + cy.getId() + "],\"attendance\":false");
+        assertThat(body.split("event:registered", -1)).hasSize(3);   // the other event's registration is not sent
+        assertThat(body).doesNotContain("\"eventId\":" + other.getId() + ",");
+
+        feed.heartbeat();
+        awaitContent(stream, ":heartbeat");
+    }
+
+    @Test
+    void facultyCanOnlyFollowTheirOwnEvents() throws Exception {
+        Faculty owner = faculty("owner@uni.edu");
+        Faculty stranger = faculty("stranger@uni.edu");
+        Event event = adminService.addEvent(Map.of("name", "Lab tour", "facultyId", owner.getId()));
+
+        MockHttpSession session = new MockHttpSession();
+        SessionPrincipal.of(stranger).storeIn(session);
+        mvc.perform(get("/api/faculty/events/" + event.getId() + "/feed").session(session))
+                .andExpect(status().isBadRequest());
+
+        mvc.perform(get("/api/faculty/feed")).andExpect(status().isUnauthorized());
+        mvc.perform(get("/api/admin/events/" + event.getId() + "/feed")).andExpect(status().isUnauthorized());
+        MockHttpSession admin = new MockHttpSession();
+        new SessionPrincipal(1L, SessionPrincipal.ADMIN, "Admin").storeIn(admin);
+        mvc.perform(get("/api/admin/events/" + (event.getId() + 1000) + "/feed").session(admin))
+                .andExpect(status().isNotFound());
+
+        session = new MockHttpSession();
+        SessionPrincipal.of(owner).storeIn(session);
+        mvc.perform(get("/api/faculty/feed").session(session))
+                .andExpect(request().asyncStarted());
+    }
+
+    private static String awaitContent(MockHttpServletResponse stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = stream.getContentAsString(StandardCharsets.UTF_8);
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = stream.getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+
+    private Student student(String email) {
+        Student s = new Student();
+        s.setName(email);
+        s.setEmail(email);
+        s.setPassword("pw");
+        return studentRepo.save(s);
+    }
+
+    private Faculty faculty(String email) {
+        Faculty f = new Faculty();
+        f.setName(email);
+        f.setEmail(email);
+        f.setApproved(true);
+        return facultyRepo.save(f);
+    }
+}
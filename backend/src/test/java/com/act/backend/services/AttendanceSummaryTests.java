@@ -0,0 +1,91 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.AttendanceSummaryDTO;
+import com.act.backend.dto.RegisteredEventAttendance;
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.models.Event;
+import com.act.backend.models.Student;
+import com.act.backend.models.StudentEvent;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+
+import static com.act.backend.support.SqlStatementAssertions.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AttendanceSummaryTests {
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+
+    @AfterEach
+    void cleanUp() {
+        studentEventRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+    }
+
+    @Test
+    void countsPresentAbsentAndNotMarkedInOneStatement() {
+        Student s = student("summary@example.com");
+        Boolean[] marks = {true, true, false, null};
+        for (int i = 0; i < marks.length; i++) register(s, "Session " + i, marks[i]);
+        MockHttpSession session = new MockHttpSession();
+        SessionPrincipal.of(s).storeIn(session);
+
+        AttendanceSummaryDTO summary = assertStatementCount(1, () -> studentService.getAttendanceSummary(session));
+
+        assertThat(summary.events()).extracting(RegisteredEventAttendance::name)
+                .containsExactly("Session 0", "Session 1", "Session 2", "Session 3");
+        assertThat(summary.events().get(0).facultyName()).isEqualTo("Unassigned");
+        assertThat(summary.present()).isEqualTo(2);
+        assertThat(summary.absent()).isEqualTo(1);
+        assertThat(summary.notMarked()).isEqualTo(1);
+    }
+
+    @Test
+    void studentWithoutRegistrationsGetsAnEmptySummary() {
+        Student s = student("idle@example.com");
+        register(student("busy@example.com"), "Someone else's", true);
+        MockHttpSession session = new MockHttpSession();
+        SessionPrincipal.of(s).storeIn(session);
+
+        AttendanceSummaryDTO summary = studentService.getAttendanceSummary(session);
+
+        assertThat(summary.events()).isEmpty();
+        assertThat(summary.present()).isZero();
+        assertThat(summary.absent()).isZero();
+        assertThat(summary.notMarked()).isZero();
+    }
+
+    private Student student(String email) {
+        Student s = new Student();
+        s.setName(email);
+        s.setEmail(email);
+        s.setPassword("secret");
+        return studentRepo.save(s);
+    }
+
+    private void register(Student s, String eventName, Boolean attendance) {
+        Event e = new Event();
+        e.setName(eventName);
+        eventRepo.save(e);
+        StudentEvent se = new StudentEvent();
+        se.setStudent(s);
+        se.setEvent(e);
+        se.setAttendance(attendance);
+        studentEventRepo.save(se);
+    }
+}
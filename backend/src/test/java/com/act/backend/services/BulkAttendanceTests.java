@@ -0,0 +1,117 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.AttendanceMark;
+import com.act.backend.dto.AttendanceMarkResult;
+import com.act.backend.models.Event;
+import com.act.backend.models.Faculty;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import com.act.backend.repositories.FacultyRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.act.backend.support.SqlStatementAssertions.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class BulkAttendanceTests {
+
+    @Autowired
+    private FacultyService facultyService;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private EventSeatService seatService;
+    @Autowired
+    private AttendanceAnalytics analytics;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private FacultyRepository facultyRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private EventSeatRepository seatRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+
+    @AfterEach
+    void cleanUp() {
+        studentEventRepo.deleteAll();
+        seatRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+        facultyRepo.deleteAll();
+        analytics.rebuild();
+    }
+
+    @Test
+    void marksRegisteredStudentsWithOneUpdatePerOutcome() {
+        Faculty ada = faculty("ada@uni.edu");
+        Event lecture = adminService.addEvent(Map.of("name", "Lecture", "facultyId", ada.getId()));
+        Student bea = student("bea@uni.edu");
+        Student cy = student("cy@uni.edu");
+        Student dee = student("dee@uni.edu");
+        Student outsider = student("out@uni.edu");
+        for (Student s : List.of(bea, cy, dee)) seatService.register(s.getId(), lecture.getId());
+        eventRepo.findById(lecture.getId());   // event comes from the second-level cache
+
+        // one registration lookup, then one UPDATE for present and one for absent
+        List<AttendanceMarkResult> results = assertStatementCount(3, () -> facultyService.markAttendanceBulk(ada, lecture.getId(), List.of(
+                new AttendanceMark(bea.getId(), true),
+                new AttendanceMark(cy.getId(), true),
+                new AttendanceMark(outsider.getId(), true),
+                new AttendanceMark(null, true),
+                new AttendanceMark(dee.getId(), null),
+                new AttendanceMark(cy.getId(), false))));
+
+        assertThat(results).extracting(AttendanceMarkResult::getStudentId, AttendanceMarkResult::getStatus).containsExactly(
+                tuple(bea.getId(), AttendanceMarkResult.MARKED),
+                tuple(cy.getId(), AttendanceMarkResult.SUPERSEDED),
+                tuple(outsider.getId(), AttendanceMarkResult.NOT_REGISTERED),
+                tuple(null, AttendanceMarkResult.INVALID),
+                tuple(dee.getId(), AttendanceMarkResult.INVALID),
+                tuple(cy.getId(), AttendanceMarkResult.MARKED));
+        assertThat(studentEventRepo.findAttendance(lecture.getId(), bea.getId())).isTrue();
+        assertThat(studentEventRepo.findAttendance(lecture.getId(), cy.getId())).isFalse();
+        assertThat(studentEventRepo.findAttendance(lecture.getId(), dee.getId())).isNull();
+        assertThat(analytics.event(lecture.getId()).present()).isEqualTo(1);
+        assertThat(analytics.event(lecture.getId()).absent()).isEqualTo(1);
+    }
+
+    @Test
+    void onlyTheOwningFacultyMayMark() {
+        Faculty ada = faculty("ada@uni.edu");
+        Faculty alan = faculty("alan@uni.edu");
+        Event lecture = adminService.addEvent(Map.of("name", "Lecture", "facultyId", ada.getId()));
+
+        assertThatThrownBy(() -> facultyService.markAttendanceBulk(alan, lecture.getId(), List.of()))
+                .hasMessage("Unauthorized access");
+    }
+
+    private Student student(String email) {
+        Student s = new Student();
+        s.setName(email);
+        s.setEmail(email);
+        s.setPassword("pw");
+        return studentRepo.save(s);
+    }
+
+    private Faculty faculty(String email) {
+        Faculty f = new Faculty();
+        f.setName(email);
+        f.setEmail(email);
+        f.setApproved(true);
+        return facultyRepo.save(f);
+    }
+}
@@ -0,0 +1,139 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.DirectoryMatch;
+import com.act.backend.dto.FacultyDTO;
+import com.act.backend.dto.ImportReport;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.FacultyRepository;
+import com.act.backend.repositories.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {"portal.import.batch-size=250", "portal.import.max-rows=3500"})
+class BulkImportTests {
+
+    @Autowired
+    private BulkImportService importService;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private FacultyRepository facultyRepo;
+    @Autowired
+    private DirectorySearch directory;
+
+    @AfterEach
+    void cleanUp() {
+        studentRepo.deleteAll();
+        facultyRepo.deleteAll();
+        directory.rebuild();
+    }
+
+    @Test
+    void importsValidRowsInBatchesAndReportsTheRest() {
+        Student existing = new Student();
+        existing.setName("Already Here");
+        existing.setEmail("student1500@uni.edu");
+        existing.setPassword("pw");
+        studentRepo.save(existing);
+
+        StringBuilder csv = new StringBuilder("\uFEFFEmail,Name,Department,Password\r\n");
+        for (int i = 0; i < 3000; i++) {
+            csv.append("student").append(i).append("@uni.edu,Student ").append(i).append(",Dept ").append(i % 7).append(",pw\r\n");
+        }
+        csv.append("\n");                                                       // blank line, ignored
+        csv.append("student10@uni.edu,Copy Cat,Dept 1,pw\n");                   // line 3003: duplicate in file
+        csv.append("not-an-email,Broken,Dept 1,pw\n");                          // line 3004
+        csv.append("nameless@uni.edu,,Dept 1,pw\n");                            // line 3005
+        csv.append("quoted@uni.edu,\"O'Neil, \"\"Sam\"\"\",\"Line\nbreak\",pw\n"); // line 3006, spans two lines
+        csv.append("last@uni.edu,Last One,Dept 2,pw");                          // line 3008, no trailing newline
+
+        ImportReport report = importService.importStudents(stream(csv.toString()));
+
+        assertThat(report.rows()).isEqualTo(3005);
+        assertThat(report.imported()).isEqualTo(3001);
+        assertThat(report.rejected()).isEqualTo(4);
+        assertThat(report.fatalError()).isNull();
+        assertThat(report.errors()).extracting(ImportReport.RowError::line, ImportReport.RowError::message)
+                .containsExactlyInAnyOrder(
+                        tuple(1502L, "Email already exists"),
+                        tuple(3003L, "Duplicate email in file"),
+                        tuple(3004L, "Invalid email"),
+                        tuple(3005L, "Name is required"));
+        assertThat(studentRepo.count()).isEqualTo(3002);
+
+        Student quoted = studentRepo.findByEmail("quoted@uni.edu").orElseThrow();
+        assertThat(quoted.getName()).isEqualTo("O'Neil, \"Sam\"");
+        assertThat(quoted.getDepartment()).isEqualTo("Line\nbreak");
+
+        assertThat(adminService.searchStudents("last", null)).extracting(DirectoryMatch::email).containsExactly("last@uni.edu");
+    }
+
+    @Test
+    void importedFacultyJoinTheApprovalQueue() {
+        assertThat(adminService.getAllFaculties()).isEmpty();  // caches the directory query
+
+        ImportReport report = importService.importFaculties(stream(
+                "name,email,department\nAda Byron,ada@uni.edu,Mathematics\nAlan Turing,alan@uni.edu,Computing\n"));
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(adminService.getUnapprovedFaculties()).extracting(FacultyDTO::getEmail)
+                .containsExactlyInAnyOrder("ada@uni.edu", "alan@uni.edu");
+        assertThat(adminService.getAllFaculties()).hasSize(2);
+        assertThat(adminService.searchFaculties("comp", null)).extracting(DirectoryMatch::name).containsExactly("Alan Turing");
+    }
+
+    @Test
+    void rejectsFilesWithoutRequiredColumns() {
+        assertThatThrownBy(() -> importService.importStudents(stream("name,email\nA,a@uni.edu\n")))
+                .hasMessage("Missing column: password");
+        assertThatThrownBy(() -> importService.importStudents(stream("")))
+                .hasMessage("CSV is empty");
+    }
+
+    @Test
+    void rowLimitStopsTheImportButKeepsWhatWasCommitted() {
+        ImportReport report = importService.importStudents(stream(students(3600)));
+
+        assertThat(report.rows()).isEqualTo(3500);
+        assertThat(report.imported()).isEqualTo(3500);
+        assertThat(report.fatalError()).isEqualTo("CSV has more than 3500 rows; stopped at line 3502");
+        assertThat(studentRepo.count()).isEqualTo(3500);
+    }
+
+    @Test
+    void brokenQuotingMidFileStopsTheImportButKeepsTheRowsBefore() {
+        String csv = students(600) + "late@uni.edu,\"Never closed,Dept 1,pw\n" + "after@uni.edu,After,Dept 1,pw\n";
+
+        ImportReport report = importService.importStudents(stream(csv));
+
+        assertThat(report.rows()).isEqualTo(600);
+        assertThat(report.imported()).isEqualTo(600);
+        assertThat(report.fatalError()).isEqualTo("Could not read CSV: Unterminated quoted field starting on line 602");
+        assertThat(studentRepo.count()).isEqualTo(600);
+        assertThat(studentRepo.findByEmail("after@uni.edu")).isEmpty();
+    }
+
+    private static String students(int count) {
+        StringBuilder csv = new StringBuilder("email,name,department,password\n");
+        for (int i = 0; i < count; i++) {
+            csv.append("student").append(i).append("@uni.edu,Student ").append(i).append(",Dept ").append(i % 7).append(",pw\n");
+        }
+        return csv.toString();
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
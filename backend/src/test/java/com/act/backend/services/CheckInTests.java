@@ -0,0 +1,157 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.CheckInToken;
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.models.Event;
+import com.act.backend.models.Faculty;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import com.act.backend.repositories.FacultyRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "portal.check-in.secret=test-secret",
+        "portal.check-in.flush-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+class CheckInTests {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper json;
+    @Autowired
+    private CheckInTokens tokens;
+    @Autowired
+    private CheckInBuffer buffer;
+    @Autowired
+    private AttendanceAnalytics analytics;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private EventSeatService seatService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private FacultyRepository facultyRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private EventSeatRepository seatRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+
+    @AfterEach
+    void cleanUp() {
+        studentEventRepo.deleteAll();
+        seatRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+        facultyRepo.deleteAll();
+        analytics.rebuild();
+    }
+
+    @Test
+    void tokensAreCheckedWithoutTheDatabase() {
+        CheckInToken token = tokens.issue(42L);
+        assertThat(tokens.verify(token.token())).isEqualTo(42L);
+
+        String forged = "43" + token.token().substring(2);
+        assertThatThrownBy(() -> tokens.verify(forged)).hasMessage("Invalid check-in token");
+        assertThatThrownBy(() -> tokens.verify("not-a-token")).hasMessage("Invalid check-in token");
+        assertThatThrownBy(() -> tokens.verify(token.token() + "%")).hasMessage("Invalid check-in token");
+
+        String expired = tokens.issue(42L, Instant.now().minusSeconds(5)).token();
+        assertThatThrownBy(() -> tokens.verify(expired)).hasMessage("Check-in token expired");
+    }
+
+    @Test
+    void checkInsAreQueuedAndWrittenInOneFlush() throws Exception {
+        Faculty owner = faculty("owner@uni.edu");
+        Event event = adminService.addEvent(Map.of("name", "Open day", "facultyId", owner.getId()));
+        Student bea = student("bea@uni.edu");
+        Student cy = student("cy@uni.edu");
+        Student walkIn = student("walk-in@uni.edu");
+        seatService.register(bea.getId(), event.getId());
+        seatService.register(cy.getId(), event.getId());
+
+        MockHttpSession facultySession = new MockHttpSession();
+        SessionPrincipal.of(owner).storeIn(facultySession);
+        String body = mvc.perform(get("/api/faculty/events/" + event.getId() + "/check-in-token").session(facultySession))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = json.readValue(body, CheckInToken.class).token();
+
+        checkIn(bea, token);
+        checkIn(bea, token);   // a second scan is harmless
+        checkIn(walkIn, token);
+        assertThat(buffer.pending()).isEqualTo(2);
+        assertThat(studentEventRepo.findAttendance(event.getId(), bea.getId())).isNull();
+
+        buffer.flush();
+
+        assertThat(buffer.pending()).isZero();
+        assertThat(studentEventRepo.findAttendance(event.getId(), bea.getId())).isTrue();
+        assertThat(studentEventRepo.findAttendance(event.getId(), cy.getId())).isNull();
+        assertThat(studentEventRepo.findAttendance(event.getId(), walkIn.getId())).isNull();
+        assertThat(analytics.event(event.getId()).present()).isEqualTo(1);
+
+        MockHttpSession studentSession = new MockHttpSession();
+        SessionPrincipal.of(cy).storeIn(studentSession);
+        mvc.perform(post("/api/students/check-in").session(studentSession)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"token\":\"1.2.AAAA\"}"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(post("/api/students/check-in")
+                        .contentType(MediaType.APPLICATION_JSON).content(json.writeValueAsString(Map.of("token", token))))
+                .andExpect(status().isUnauthorized());
+        assertThat(buffer.pending()).isZero();
+    }
+
+    private void checkIn(Student student, String token) throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        SessionPrincipal.of(student).storeIn(session);
+        mvc.perform(post("/api/students/check-in").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json.writeValueAsString(Map.of("token", token))))
+                .andExpect(status().isAccepted())
+                .andExpect(content().string(startsWith("Check-in queued")));
+    }
+
+    private Student student(String email) {
+        Student s = new Student();
+        s.setName(email);
+        s.setEmail(email);
+        s.setPassword("pw");
+        return studentRepo.save(s);
+    }
+
+    private Faculty faculty(String email) {
+        Faculty f = new Faculty();
+        f.setName(email);
+        f.setEmail(email);
+        f.setApproved(true);
+        return facultyRepo.save(f);
+    }
+}
@@ -0,0 +1,191 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.models.Event;
+import com.act.backend.models.Faculty;
+import com.act.backend.models.Student;
+import com.act.backend.models.StudentEvent;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import com.act.backend.repositories.FacultyRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CsvExportTests {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private CsvExportService exportService;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private FacultyRepository facultyRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private EventSeatRepository seatRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+
+    @AfterEach
+    void cleanUp() {
+        studentEventRepo.deleteAll();
+        seatRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+        facultyRepo.deleteAll();
+    }
+
+    @Test
+    void attendanceExportStreamsOneLinePerRegistration() throws Exception {
+        Event event = adminService.addEvent(Map.of("name", "Career fair", "startTime", "2026-04-01T10:00"));
+        register(event, student("Bea", "bea@uni.edu", "=SUM(A1)"), true);
+        register(event, student("Al, Jr.", "al@uni.edu", "History"), false);
+        register(event, student("Cy", "cy@uni.edu", null), null);
+
+        List<List<String>> rows = parse(write(out -> exportService.writeEventAttendance(event.getId(), out)));
+
+        assertThat(rows.get(0)).containsExactly("student_id", "name", "email", "phone", "department", "attendance");
+        assertThat(rows.subList(1, rows.size()))
+                .extracting(r -> r.get(1), r -> r.get(4), r -> r.get(5))
+                .containsExactly(
+                        tuple("Al, Jr.", "History", "absent"),
+                        tuple("Bea", "'=SUM(A1)", "present"),
+                        tuple("Cy", "", ""));
+
+        List<List<String>> registrations = parse(write(exportService::writeRegistrations));
+        assertThat(registrations).hasSize(4);
+        assertThat(registrations.get(1).get(2)).isEqualTo("2026-04-01T10:00");
+
+        List<List<String>> roster = parse(write(exportService::writeStudentRoster));
+        assertThat(roster.subList(1, roster.size())).extracting(r -> r.get(6)).containsOnly("1");
+    }
+
+    @Test
+    void adminEndpointStreamsAnAttachmentAndChecksTheSession() throws Exception {
+        student("Dee", "dee@uni.edu", "Art");
+
+        mvc.perform(get("/api/admin/export/students.csv")).andExpect(status().isUnauthorized());
+
+        MockHttpSession session = new MockHttpSession();
+        new SessionPrincipal(1L, SessionPrincipal.ADMIN, "Admin").storeIn(session);
+        MvcResult started = mvc.perform(get("/api/admin/export/students.csv").session(session))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult done = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"students.csv\""))
+                .andReturn();
+
+        List<List<String>> rows = parse(done.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(1).get(2)).isEqualTo("dee@uni.edu");
+    }
+
+    @Test
+    void adminEventExportTellsAMissingSessionFromAMissingEvent() throws Exception {
+        Event event = adminService.addEvent(Map.of("name", "Open day", "facultyId", faculty("host@uni.edu").getId()));
+
+        mvc.perform(get("/api/admin/events/" + event.getId() + "/attendance.csv")).andExpect(status().isUnauthorized());
+
+        MockHttpSession session = new MockHttpSession();
+        new SessionPrincipal(1L, SessionPrincipal.ADMIN, "Admin").storeIn(session);
+        mvc.perform(get("/api/admin/events/" + (event.getId() + 1000) + "/attendance.csv").session(session))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/admin/events/" + event.getId() + "/attendance.csv").session(session))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void facultyCanOnlyExportTheirOwnEvents() throws Exception {
+        Faculty owner = faculty("owner@uni.edu");
+        Faculty other = faculty("other@uni.edu");
+        Event event = adminService.addEvent(Map.of("name", "Lab tour", "facultyId", owner.getId()));
+
+        mvc.perform(get("/api/faculty/events/" + event.getId() + "/attendance.csv"))
+                .andExpect(status().isUnauthorized());
+
+        MockHttpSession session = new MockHttpSession();
+        SessionPrincipal.of(other).storeIn(session);
+        mvc.perform(get("/api/faculty/events/" + event.getId() + "/attendance.csv").session(session))
+                .andExpect(status().isForbidden());
+        mvc.perform(get("/api/faculty/events/" + (event.getId() + 1000) + "/attendance.csv").session(session))
+                .andExpect(status().isNotFound());
+
+        session = new MockHttpSession();
+        SessionPrincipal.of(owner).storeIn(session);
+        mvc.perform(get("/api/faculty/events/" + event.getId() + "/attendance.csv").session(session))
+                .andExpect(request().asyncStarted());
+    }
+
+    private interface Export {
+        void to(ByteArrayOutputStream out) throws Exception;
+    }
+
+    private static String write(Export export) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export.to(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static List<List<String>> parse(String csv) throws Exception {
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row;
+        while ((row = reader.next()) != null) rows.add(row);
+        return rows;
+    }
+
+    private Student student(String name, String email, String department) {
+        Student s = new Student();
+        s.setName(name);
+        s.setEmail(email);
+        s.setDepartment(department);
+        s.setPassword("pw");
+        return studentRepo.save(s);
+    }
+
+    private Faculty faculty(String email) {
+        Faculty f = new Faculty();
+        f.setName(email);
+        f.setEmail(email);
+        f.setApproved(true);
+        return facultyRepo.save(f);
+    }
+
+    private void register(Event event, Student student, Boolean attendance) {
+        StudentEvent se = new StudentEvent();
+        se.setEvent(event);
+        se.setStudent(student);
+        se.setAttendance(attendance);
+        studentEventRepo.save(se);
+    }
+}
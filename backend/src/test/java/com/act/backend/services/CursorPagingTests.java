@@ -0,0 +1,132 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.CursorPage;
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.dto.StudentAttendanceDTO;
+import com.act.backend.dto.StudentWithEventsDTO;
+import com.act.backend.models.Event;
+import com.act.backend.models.Student;
+import com.act.backend.models.StudentEvent;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CursorPagingTests {
+
+    private static final String[] NAMES = {"Mia", "Ava", "Zoe", "Eli", "Ava", "Kai", "Leo"};
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+
+    private Event event;
+
+    @BeforeEach
+    void seed() {
+        event = new Event();
+        event.setName("Hackathon");
+        eventRepo.save(event);
+        for (int i = 0; i < NAMES.length; i++) {
+            Student s = new Student();
+            s.setName(NAMES[i]);
+            s.setEmail("s" + i + "@example.com");
+            studentRepo.save(s);
+            StudentEvent se = new StudentEvent();
+            se.setStudent(s);
+            se.setEvent(event);
+            studentEventRepo.save(se);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        studentEventRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+    }
+
+    @Test
+    void walksStudentsByNameWithoutGapsOrDuplicates() {
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<StudentWithEventsDTO> page = adminService.getStudentsPage(cursor, 3, "name");
+            page.items().forEach(s -> {
+                seen.add(s.getName());
+                assertThat(s.getRegisteredEvents()).containsExactly("Hackathon");
+            });
+            cursor = page.next();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactly("Ava", "Ava", "Eli", "Kai", "Leo", "Mia", "Zoe");
+    }
+
+    @Test
+    void walksEventRosterByStudentName() {
+        CursorPage<StudentAttendanceDTO> first = adminService.getStudentsByEventPage(event.getId(), null, 4, "name");
+        CursorPage<StudentAttendanceDTO> second = adminService.getStudentsByEventPage(event.getId(), first.next(), 4, "name");
+
+        assertThat(first.items()).extracting(StudentAttendanceDTO::getName).containsExactly("Ava", "Ava", "Eli", "Kai");
+        assertThat(second.items()).extracting(StudentAttendanceDTO::getName).containsExactly("Leo", "Mia", "Zoe");
+        assertThat(second.next()).isNull();
+    }
+
+    @Test
+    void rejectsCursorFromAnotherSort() {
+        String byName = adminService.getStudentsPage(null, 2, "name").next();
+
+        assertThatThrownBy(() -> adminService.getStudentsPage(byName, 2, "email"))
+                .hasMessageContaining("Cursor does not match");
+    }
+
+    @Test
+    void malformedPagingParametersAreBadRequests() throws Exception {
+        MockHttpSession student = new MockHttpSession();
+        new SessionPrincipal(1L, SessionPrincipal.STUDENT, "Mia").storeIn(student);
+        MockHttpSession admin = new MockHttpSession();
+        new SessionPrincipal(1L, SessionPrincipal.ADMIN, "Admin").storeIn(admin);
+
+        mvc.perform(get("/api/students/events").param("cursor", "not-a-cursor").session(student))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid cursor"));
+        mvc.perform(get("/api/students/events").param("sort", "venue").session(student))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/students/events/upcoming").param("limit", "0").session(student))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/students/events/range").param("from", "2026-02-01").param("to", "2026-01-01").session(student))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/admin/students").param("cursor", "not-a-cursor").session(admin))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/admin/students").param("limit", "5"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,131 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.DirectoryMatch;
+import com.act.backend.dto.FacultyDTO;
+import com.act.backend.models.Faculty;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.FacultyRepository;
+import com.act.backend.repositories.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DirectorySearchTests {
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private FacultyService facultyService;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private DirectorySearch directory;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private FacultyRepository facultyRepo;
+    @Autowired
+    private TransactionTemplate tx;
+
+    @AfterEach
+    void cleanUp() {
+        studentRepo.deleteAll();
+        facultyRepo.deleteAll();
+        directory.rebuild();
+    }
+
+    @Test
+    void namesComeBeforeEmailsBeforeDepartmentsAndAllWordsMustMatch() {
+        DirectoryIndex index = new DirectoryIndex();
+        index.put(new DirectoryMatch(1L, "Maria Lopez", "mlopez@uni.edu", "Physics"));
+        index.put(new DirectoryMatch(2L, "Mario Rossi", "rossi@uni.edu", "Mathematics"));
+        index.put(new DirectoryMatch(3L, "Zed Adams", "mar.zed@uni.edu", "Chemistry"));
+        index.put(new DirectoryMatch(4L, "Ann Lee", "ann@uni.edu", "Marine Biology"));
+
+        assertThat(index.search("Mar", 10)).extracting(DirectoryMatch::id).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(index.search("mar", 2)).extracting(DirectoryMatch::id).containsExactly(1L, 2L);
+        assertThat(index.search("mar phys", 10)).extracting(DirectoryMatch::id).containsExactly(1L);
+        assertThat(index.search("rossi@uni", 10)).extracting(DirectoryMatch::id).containsExactly(2L);
+        assertThat(index.search("   ", 10)).isEmpty();
+
+        index.put(new DirectoryMatch(1L, "Maria Lopez", "mlopez@uni.edu", "Astronomy"));
+        assertThat(index.search("phys", 10)).isEmpty();
+        index.remove(2L);
+        assertThat(index.search("mario", 10)).isEmpty();
+
+        index.putAll(List.of(new DirectoryMatch(5L, "Marco Polo", "polo@uni.edu", "History"),
+                new DirectoryMatch(1L, "Maria Lopez", "mlopez@uni.edu", "Geology")));
+        assertThat(index.search("mar", 10)).extracting(DirectoryMatch::id).containsExactly(5L, 1L, 3L, 4L);
+        assertThat(index.search("astro", 10)).isEmpty();
+        assertThat(index.search("geo", 10)).extracting(DirectoryMatch::id).containsExactly(1L);
+    }
+
+    @Test
+    void stopsAfterTopKOnLargeDirectories() {
+        List<DirectoryMatch> people = new ArrayList<>();
+        for (long id = 1; id <= 100_000; id++) {
+            people.add(new DirectoryMatch(id, "Student " + id, "s" + id + "@uni.edu", "Dept " + (id % 40)));
+        }
+        DirectoryIndex index = new DirectoryIndex();
+        index.putAll(people);
+
+        assertThat(index.size()).isEqualTo(100_000);
+        assertThat(index.search("student", 5)).extracting(DirectoryMatch::id).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(index.search("s99999@", 5)).extracting(DirectoryMatch::id).containsExactly(99_999L);
+    }
+
+    @Test
+    void followsSignupEditsDeletesAndSkipsRolledBackWrites() {
+        Student s = new Student();
+        s.setName("Priya Natarajan");
+        s.setEmail("priya@example.com");
+        s.setDepartment("Economics");
+        s.setPassword("secret");
+        studentService.signup(s);
+        assertThat(adminService.searchStudents("pri", null)).extracting(DirectoryMatch::id).containsExactly(s.getId());
+
+        Student edit = new Student();
+        edit.setName("Priya Raman");
+        edit.setEmail("priya@example.com");
+        edit.setDepartment("Economics");
+        adminService.updateStudent(s.getId(), edit);
+        assertThat(adminService.searchStudents("natarajan", null)).isEmpty();
+        assertThat(adminService.searchStudents("raman", null)).extracting(DirectoryMatch::email).containsExactly("priya@example.com");
+
+        tx.executeWithoutResult(status -> {
+            edit.setName("Ghost Writer");
+            adminService.updateStudent(s.getId(), edit);
+            status.setRollbackOnly();
+        });
+        assertThat(adminService.searchStudents("ghost", null)).isEmpty();
+
+        adminService.deleteStudent(s.getId());
+        assertThat(adminService.searchStudents("priya", null)).isEmpty();
+
+        Faculty f = new Faculty();
+        f.setName("Omar Haddad");
+        f.setEmail("omar@example.com");
+        f.setDepartment("Civil Engineering");
+        facultyService.register(f);
+        assertThat(adminService.searchFaculties("civ", null)).extracting(DirectoryMatch::id).containsExactly(f.getId());
+
+        FacultyDTO update = new FacultyDTO();
+        update.setName("Omar Haddad");
+        update.setEmail("omar@example.com");
+        update.setDepartment("Architecture");
+        // The returned DTO counts assigned events, which needs an open session
+        tx.executeWithoutResult(status -> adminService.updateFaculty(f.getId(), update));
+        assertThat(adminService.searchFaculties("civ", null)).isEmpty();
+
+        adminService.deleteFaculty(f.getId(), null);
+        assertThat(adminService.searchFaculties("omar", null)).isEmpty();
+    }
+}
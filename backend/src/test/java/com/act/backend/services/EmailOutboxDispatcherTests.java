@@ -0,0 +1,142 @@
+package com.act.backend.services;
+
+import com.act.backend.config.MailTimeoutConfig;
+import com.act.backend.models.EmailOutbox;
+import com.act.backend.repositories.EmailOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {"portal.mail.outbox.max-attempts=2", "management.health.mail.enabled=false"})
+class EmailOutboxDispatcherTests {
+
+    @MockitoBean
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private EmailService emailService;
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+    @Autowired
+    private EmailOutboxRepository outboxRepo;
+    @Autowired
+    private Bulkheads bulkheads;
+
+    @AfterEach
+    void cleanUp() {
+        outboxRepo.deleteAll();
+    }
+
+    @Test
+    void queuedMailIsDeliveredByTheDispatcher() {
+        emailService.sendEmail("a@example.com", "Hi", "Body");
+        assertThat(outboxRepo.countByStatus(EmailOutbox.Status.PENDING)).isEqualTo(1);
+
+        assertThat(dispatcher.dispatchDue()).isEqualTo(1);
+
+        verify(mailSender).send(any(SimpleMailMessage.class));
+        assertThat(outboxRepo.countByStatus(EmailOutbox.Status.SENT)).isEqualTo(1);
+    }
+
+    @Test
+    void failingMailIsRetriedThenDeadLettered() {
+        doThrow(new MailSendException("smtp down")).when(mailSender).send(any(SimpleMailMessage.class));
+        emailService.sendEmail("b@example.com", "Hi", "Body");
+
+        dispatcher.dispatchDue();
+        EmailOutbox retried = outboxRepo.findAll().get(0);
+        assertThat(retried.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        // not due yet, so nothing is claimed
+        assertThat(dispatcher.dispatchDue()).isZero();
+
+        retried.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxRepo.save(retried);
+        dispatcher.dispatchDue();
+
+        EmailOutbox dead = outboxRepo.findAll().get(0);
+        assertThat(dead.getStatus()).isEqualTo(EmailOutbox.Status.DEAD);
+        assertThat(dead.getLastError()).contains("smtp down");
+    }
+
+    @Test
+    void expiredLeaseCountsAsAnAttempt() {
+        emailService.sendEmail("c@example.com", "Hi", "Body");
+        EmailOutbox hung = outboxRepo.findAll().get(0);
+        // as left by a sender stuck in SMTP past its lease
+        hung.setStatus(EmailOutbox.Status.SENDING);
+        hung.setLockedUntil(LocalDateTime.now().minusSeconds(1));
+        hung.setNextAttemptAt(LocalDateTime.now().plusHours(1));
+        outboxRepo.save(hung);
+
+        dispatcher.dispatchDue();
+        EmailOutbox released = outboxRepo.findById(hung.getId()).orElseThrow();
+        assertThat(released.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(released.getAttempts()).isEqualTo(1);
+        assertThat(released.getLockedUntil()).isNull();
+
+        released.setStatus(EmailOutbox.Status.SENDING);
+        released.setLockedUntil(LocalDateTime.now().minusSeconds(1));
+        outboxRepo.save(released);
+        dispatcher.dispatchDue();
+
+        EmailOutbox dead = outboxRepo.findById(hung.getId()).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(EmailOutbox.Status.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(2);
+        assertThat(dead.getLastError()).contains("lease expired");
+        verify(mailSender, never()).send(any(SimpleMailMessage.class));
+    }
+
+    @Test
+    void mailWaitingForAnSmtpPermitIsHandedBackWithoutUsingAnAttempt() {
+        emailService.sendEmail("d@example.com", "Hi", "Body");
+        List<Bulkheads.Permit> held = new ArrayList<>();
+        for (int i = 0; i < bulkheads.get(Bulkheads.Workload.MAIL).limit(); i++) {
+            held.add(bulkheads.acquire(Bulkheads.Workload.MAIL));
+        }
+
+        assertThat(dispatcher.dispatchDue()).isEqualTo(1);
+        EmailOutbox deferred = outboxRepo.findAll().get(0);
+        assertThat(deferred.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(deferred.getAttempts()).isZero();
+        assertThat(deferred.getLastError()).isNull();
+        assertThat(deferred.getLockedUntil()).isNull();
+        verify(mailSender, never()).send(any(SimpleMailMessage.class));
+
+        held.forEach(Bulkheads.Permit::close);
+        assertThat(dispatcher.dispatchDue()).isEqualTo(1);
+        assertThat(outboxRepo.countByStatus(EmailOutbox.Status.SENT)).isEqualTo(1);
+    }
+
+    @Test
+    void smtpTimeoutsDefaultBelowTheLease() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.getJavaMailProperties().setProperty("mail.smtp.timeout", "5000");
+
+        MailTimeoutConfig.smtpTimeouts(Duration.ofSeconds(30)).postProcessAfterInitialization(sender, "mailSender");
+
+        assertThat(sender.getJavaMailProperties())
+                .containsEntry("mail.smtp.connectiontimeout", "30000")
+                .containsEntry("mail.smtp.writetimeout", "30000")
+                .containsEntry("mail.smtp.timeout", "5000");
+    }
+}
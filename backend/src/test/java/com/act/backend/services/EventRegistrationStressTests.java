@@ -0,0 +1,162 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.models.Event;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import jakarta.servlet.http.HttpSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EventRegistrationStressTests {
+
+    private static final int CAPACITY = 50;
+    private static final int STUDENTS = 120;
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+    @Autowired
+    private EventSeatRepository seatRepo;
+
+    @AfterEach
+    void cleanUp() {
+        studentEventRepo.deleteAll();
+        seatRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+    }
+
+    @Test
+    void concurrentRegistrationsNeverOverfillOrDuplicate() throws Exception {
+        Event event = adminService.addEvent(Map.of("name", "Hackathon", "capacity", CAPACITY));
+        List<Student> students = seedStudents(STUDENTS);
+
+        // every student tries twice, all released at once
+        List<Callable<String>> attempts = new ArrayList<>();
+        for (Student s : students) {
+            HttpSession session = sessionFor(s);
+            for (int i = 0; i < 2; i++) {
+                attempts.add(() -> studentService.registerEvent(session, event.getId()));
+            }
+        }
+        Collections.shuffle(attempts, new Random(7));
+
+        AtomicInteger ok = new AtomicInteger();
+        Map<String, Integer> failures = new ConcurrentHashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Callable<String> attempt : attempts) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    attempt.call();
+                    ok.incrementAndGet();
+                } catch (RuntimeException ex) {
+                    failures.merge(ex.getMessage(), 1, Integer::sum);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertThat(ok.get()).isEqualTo(CAPACITY);
+        assertThat(failures.keySet()).containsOnly("Event is full", "Already registered");
+        assertThat(studentEventRepo.count()).isEqualTo(CAPACITY);
+        assertThat(seatRepo.findById(event.getId()).orElseThrow().getRegistered()).isEqualTo(CAPACITY);
+
+        long distinct = studentEventRepo.findAll().stream().map(se -> se.getStudent().getId()).distinct().count();
+        assertThat(distinct).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void unregisterFreesTheSeat() {
+        Event event = adminService.addEvent(Map.of("name", "Workshop", "capacity", 1));
+        List<Student> students = seedStudents(2);
+        HttpSession first = sessionFor(students.get(0));
+        HttpSession second = sessionFor(students.get(1));
+
+        studentService.registerEvent(first, event.getId());
+        assertThatThrownBy(() -> studentService.registerEvent(second, event.getId()))
+                .hasMessage("Event is full");
+
+        studentService.unregisterEvent(first, event.getId());
+        studentService.registerEvent(second, event.getId());
+
+        assertThatThrownBy(() -> studentService.unregisterEvent(first, event.getId()))
+                .hasMessage("Not registered for this event");
+        assertThatThrownBy(() -> studentService.registerEvent(first, -1L))
+                .hasMessage("Event not found");
+        assertThat(seatRepo.findById(event.getId()).orElseThrow().getRegistered()).isEqualTo(1);
+    }
+
+    @Test
+    void registrationFailuresMapToHttpStatuses() throws Exception {
+        Event event = adminService.addEvent(Map.of("name", "Seminar", "capacity", 1));
+        List<Student> students = seedStudents(2);
+        studentService.registerEvent(sessionFor(students.get(0)), event.getId());
+        MockHttpSession second = (MockHttpSession) sessionFor(students.get(1));
+
+        mvc.perform(post("/api/students/register-event/{id}", event.getId()).session(second))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("Event is full"));
+        mvc.perform(post("/api/students/unregister-event/{id}", event.getId()).session(second))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("Not registered for this event"));
+        mvc.perform(post("/api/students/register-event/{id}", -1L).session(second))
+                .andExpect(status().isNotFound());
+        mvc.perform(post("/api/students/register-event/{id}", event.getId()))
+                .andExpect(status().isUnauthorized());
+        mvc.perform(post("/api/students/unregister-event/{id}", event.getId()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private HttpSession sessionFor(Student s) {
+        MockHttpSession session = new MockHttpSession();
+        SessionPrincipal.of(s).storeIn(session);
+        return session;
+    }
+
+    private List<Student> seedStudents(int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Student s = new Student();
+            s.setName("Student " + i);
+            s.setEmail("stress" + i + "@example.com");
+            students.add(studentRepo.save(s));
+        }
+        return students;
+    }
+}
@@ -0,0 +1,115 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.CursorPage;
+import com.act.backend.dto.EventDTO;
+import com.act.backend.models.Event;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EventScheduleTests {
+
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private EventSeatRepository seatRepo;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @AfterEach
+    void cleanUp() {
+        seatRepo.deleteAll();
+        eventRepo.deleteAll();
+    }
+
+    @Test
+    void upcomingPastAndRangeAreServedFromStartTime() {
+        LocalDate today = LocalDate.now();
+        add("Last month", today.minusDays(30));
+        add("Yesterday", today.minusDays(1));
+        add("Today", today);
+        add("Next week", today.plusDays(7));
+        add("Next month", today.plusDays(30));
+        adminService.addEvent(Map.of("name", "Someday", "date", "TBA"));
+
+        assertThat(names(cursor -> studentService.getUpcomingEvents(cursor, 2)))
+                .containsExactly("Today", "Next week", "Next month");
+        assertThat(names(cursor -> studentService.getPastEvents(cursor, 1)))
+                .containsExactly("Yesterday", "Last month");
+        assertThat(names(cursor -> studentService.getEventsBetween(today.minusDays(1), today.plusDays(7), cursor, 10)))
+                .containsExactly("Yesterday", "Today", "Next week");
+    }
+
+    @Test
+    void explicitTimesWinOverDateAndMustBeOrdered() {
+        Event event = adminService.addEvent(Map.of("name", "Workshop",
+                "startTime", "2026-05-04T14:00", "endTime", "2026-05-04T16:30"));
+
+        assertThat(event.getStartTime()).isEqualTo(LocalDateTime.of(2026, 5, 4, 14, 0));
+        assertThat(event.getEndTime()).isEqualTo(LocalDateTime.of(2026, 5, 4, 16, 30));
+        assertThat(event.getDate()).isEqualTo("2026-05-04");
+
+        assertThatThrownBy(() -> adminService.updateEvent(event.getId(), Map.of("endTime", "2026-05-04T09:00")))
+                .hasMessage("Event cannot end before it starts");
+        assertThatThrownBy(() -> adminService.updateEvent(event.getId(), Map.of("startTime", "next tuesday")))
+                .hasMessageStartingWith("Invalid startTime");
+    }
+
+    @Test
+    void legacyDateTextIsBackfilledAtStartup() {
+        Long iso = insertLegacy("ISO", "2025-11-03");
+        Long dayFirst = insertLegacy("Day first", "07/01/2026");
+        Long free = insertLegacy("Free text", "after exams");
+
+        eventService.backfillStartTimes();
+        emf.getCache().evictAll();
+
+        assertThat(eventRepo.findById(iso).orElseThrow().getStartTime()).isEqualTo(LocalDateTime.of(2025, 11, 3, 0, 0));
+        assertThat(eventRepo.findById(dayFirst).orElseThrow().getStartTime()).isEqualTo(LocalDateTime.of(2026, 1, 7, 0, 0));
+        assertThat(eventRepo.findById(free).orElseThrow().getStartTime()).isNull();
+    }
+
+    private void add(String name, LocalDate date) {
+        adminService.addEvent(Map.of("name", name, "date", date.toString()));
+    }
+
+    private Long insertLegacy(String name, String date) {
+        jdbc.update("INSERT INTO event (name, date) VALUES (?, ?)", name, date);
+        return jdbc.queryForObject("SELECT id FROM event WHERE name = ?", Long.class, name);
+    }
+
+    private List<String> names(Function<String, CursorPage<EventDTO>> pages) {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<EventDTO> page = pages.apply(cursor);
+            page.items().forEach(e -> names.add(e.getName()));
+            cursor = page.next();
+        } while (cursor != null);
+        return names;
+    }
+}
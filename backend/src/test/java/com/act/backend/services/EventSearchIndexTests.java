@@ -0,0 +1,94 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.EventDTO;
+import com.act.backend.models.Event;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EventSearchIndexTests {
+
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private EventSearchIndex searchIndex;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private EventSeatRepository seatRepo;
+    @Autowired
+    private TransactionTemplate tx;
+
+    @AfterEach
+    void cleanUp() {
+        seatRepo.deleteAll();
+        eventRepo.deleteAll();
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void ranksNameOverVenueOverDescriptionAndMatchesPrefixes() {
+        Event inDescription = add("Orientation", "Main hall", "Includes a robotics demo");
+        Event inVenue = add("Open lab", "Robotics wing", "Drop in any time");
+        Event inName = add("Robotics contest", "Auditorium", "Bring your own bot");
+        Event prefixOnly = add("Robotic arms workshop", "Lab 2", null);
+
+        assertThat(studentService.searchEvents("robotics", null)).extracting(EventDTO::getId)
+                .containsExactly(inName.getId(), inVenue.getId(), inDescription.getId());
+        assertThat(studentService.searchEvents("ROBOT", null)).extracting(EventDTO::getId)
+                .containsExactly(inName.getId(), prefixOnly.getId(), inVenue.getId(), inDescription.getId());
+
+        // Every term must match
+        assertThat(studentService.searchEvents("robot audi", null)).extracting(EventDTO::getId)
+                .containsExactly(inName.getId());
+        assertThat(studentService.searchEvents("robot", 2)).hasSize(2);
+        assertThat(studentService.searchEvents("  --  ", null)).isEmpty();
+    }
+
+    @Test
+    void followsUpdatesDeletesAndIgnoresRolledBackWrites() {
+        Event event = add("Café crawl", "Downtown", null);
+        assertThat(searchIndex.search("cafe", 10)).containsExactly(event.getId());
+
+        adminService.updateEvent(event.getId(), Map.of("name", "Tea tasting"));
+        assertThat(searchIndex.search("cafe", 10)).isEmpty();
+        assertThat(searchIndex.search("tea", 10)).containsExactly(event.getId());
+
+        tx.executeWithoutResult(status -> {
+            adminService.addEvent(Map.of("name", "Phantom gala"));
+            status.setRollbackOnly();
+        });
+        assertThat(searchIndex.search("phantom", 10)).isEmpty();
+
+        adminService.deleteEvent(event.getId());
+        assertThat(searchIndex.search("tea", 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildPicksUpRowsWrittenOutsideTheServices() {
+        Event direct = new Event();
+        direct.setName("Imported seminar");
+        eventRepo.save(direct);
+        assertThat(searchIndex.search("seminar", 10)).isEmpty();
+
+        searchIndex.rebuild();
+        assertThat(searchIndex.search("seminar", 10)).containsExactly(direct.getId());
+    }
+
+    private Event add(String name, String venue, String description) {
+        Event event = adminService.addEvent(Map.of("name", name, "venue", venue));
+        if (description != null) event = adminService.updateEvent(event.getId(), Map.of("description", description));
+        return event;
+    }
+}
@@ -0,0 +1,79 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.CursorPage;
+import com.act.backend.dto.FacultyDTO;
+import com.act.backend.models.Faculty;
+import com.act.backend.repositories.FacultyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PendingFacultyQueueTests {
+
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private FacultyService facultyService;
+    @Autowired
+    private FacultyRepository facultyRepo;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @AfterEach
+    void cleanUp() {
+        facultyRepo.deleteAll();
+    }
+
+    @Test
+    void queueIsOrderedByRegistrationTimeAndPagesWithCursor() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) ids.add(register("Pending " + i, false));
+        register("Approved", true);
+
+        // Registration order deliberately differs from id order
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        int[] minutes = {40, 10, 30, 0, 20};
+        for (int i = 0; i < ids.size(); i++) {
+            jdbc.update("UPDATE faculty SET registered_at = ? WHERE id = ?", base.plusMinutes(minutes[i]), ids.get(i));
+        }
+        emf.getCache().evictAll();
+
+        List<Long> expected = List.of(ids.get(3), ids.get(1), ids.get(4), ids.get(2), ids.get(0));
+        assertThat(adminService.getUnapprovedFaculties()).extracting(FacultyDTO::getId).isEqualTo(expected);
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<FacultyDTO> page = adminService.getUnapprovedFacultiesPage(cursor, 2);
+            page.items().forEach(f -> paged.add(f.getId()));
+            cursor = page.next();
+        } while (cursor != null);
+
+        assertThat(paged).isEqualTo(expected);
+        assertThat(adminService.countUnapprovedFaculties()).isEqualTo(5);
+    }
+
+    private Long register(String name, boolean approved) {
+        Faculty f = new Faculty();
+        f.setName(name);
+        f.setEmail(name.replace(' ', '.') + "@example.com");
+        facultyService.register(f);
+        if (approved) {
+            f.setApproved(true);
+            facultyRepo.save(f);
+        }
+        return f.getId();
+    }
+}
@@ -0,0 +1,97 @@
+package com.act.backend.services;
+
+import com.act.backend.dto.SessionPrincipal;
+import com.act.backend.models.Event;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.EventSeatRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class PortalMetricsTests {
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+    @Autowired
+    private EventSeatRepository seatRepo;
+    @Autowired
+    private MeterRegistry registry;
+
+    @AfterEach
+    void cleanUp() {
+        studentEventRepo.deleteAll();
+        seatRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+    }
+
+    @Test
+    void registrationsAndLoginsAreCountedByOutcome() {
+        Event event = adminService.addEvent(Map.of("name", "Metrics talk", "capacity", 1));
+        Student s = new Student();
+        s.setName("Meter");
+        s.setEmail("meter@example.com");
+        s.setPassword("secret");
+        studentRepo.save(s);
+
+        double registered = timerCount("portal.registrations", "outcome", "registered");
+        double duplicate = timerCount("portal.registrations", "outcome", "duplicate");
+        double failedLogins = registry.counter("portal.logins", "role", "student", "outcome", "failure").count();
+
+        MockHttpSession session = new MockHttpSession();
+        assertThatThrownBy(() -> studentService.login("meter@example.com", "wrong", session));
+        studentService.login("meter@example.com", "secret", session);
+        studentService.registerEvent(session, event.getId());
+        assertThatThrownBy(() -> studentService.registerEvent(session, event.getId()));
+
+        Student late = new Student();
+        late.setName("Late");
+        late.setEmail("late@example.com");
+        late.setPassword("secret");
+        studentRepo.save(late);
+        MockHttpSession lateSession = new MockHttpSession();
+        SessionPrincipal.of(late).storeIn(lateSession);
+        double full = timerCount("portal.registrations", "outcome", "full");
+        double notFound = timerCount("portal.unregistrations", "outcome", "not_found");
+        assertThatThrownBy(() -> studentService.registerEvent(lateSession, event.getId())).hasMessage("Event is full");
+        assertThatThrownBy(() -> studentService.unregisterEvent(lateSession, event.getId() + 1000)).hasMessage("Event not found");
+
+        assertThat(timerCount("portal.registrations", "outcome", "registered")).isEqualTo(registered + 1);
+        assertThat(timerCount("portal.registrations", "outcome", "duplicate")).isEqualTo(duplicate + 1);
+        assertThat(timerCount("portal.registrations", "outcome", "full")).isEqualTo(full + 1);
+        assertThat(timerCount("portal.unregistrations", "outcome", "not_found")).isEqualTo(notFound + 1);
+        assertThat(registry.counter("portal.logins", "role", "student", "outcome", "failure").count())
+                .isEqualTo(failedLogins + 1);
+        assertThat(SessionPrincipal.from(session, SessionPrincipal.STUDENT)).isPresent();
+
+        // SLO buckets are published for histogram_quantile in Grafana
+        Timer timer = registry.get("portal.registrations").tag("outcome", "registered").timer();
+        assertThat(timer.takeSnapshot().histogramCounts()).isNotEmpty();
+    }
+
+    private double timerCount(String name, String tag, String value) {
+        Timer timer = registry.find(name).tag(tag, value).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
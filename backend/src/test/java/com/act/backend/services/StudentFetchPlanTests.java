@@ -0,0 +1,77 @@
+package com.act.backend.services;
+
+import com.act.backend.models.Event;
+import com.act.backend.models.Student;
+import com.act.backend.repositories.EventRepository;
+import com.act.backend.repositories.StudentEventRepository;
+import com.act.backend.repositories.StudentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StudentFetchPlanTests {
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private EventRepository eventRepo;
+    @Autowired
+    private StudentEventRepository studentEventRepo;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @AfterEach
+    void cleanUp() {
+        studentEventRepo.deleteAll();
+        studentRepo.deleteAll();
+        eventRepo.deleteAll();
+    }
+
+    @Test
+    void loginDoesNotLoadRegisteredEvents() {
+        seedStudentWithLegacyEvents();
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        MockHttpSession session = new MockHttpSession();
+        studentService.login("lazy@example.com", "secret", session);
+
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(stats.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void deleteStudentStillClearsLegacyEvents() {
+        Student s = seedStudentWithLegacyEvents();
+
+        adminService.deleteStudent(s.getId());
+
+        assertThat(studentRepo.existsById(s.getId())).isFalse();
+        assertThat(eventRepo.count()).isEqualTo(2);
+    }
+
+    private Student seedStudentWithLegacyEvents() {
+        Student s = new Student();
+        s.setName("Lazy");
+        s.setEmail("lazy@example.com");
+        s.setPassword("secret");
+        for (int i = 0; i < 2; i++) {
+            Event e = new Event();
+            e.setName("Legacy " + i);
+            s.getRegisteredEvents().add(eventRepo.save(e));
+        }
+        return studentRepo.save(s);
+    }
+}
@@ -0,0 +1,41 @@
+package com.act.backend.support;
+
+import com.act.backend.config.SqlStatementCounter;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of SQL statements a piece of code issues, e.g.
+ * {@code assertStatementCount(1, () -> adminService.getAllStudentsWithEvents())}.
+ * Counts come from {@link SqlStatementCounter}, so only the calling thread's Hibernate statements are seen.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static int countStatements(Runnable action) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            action.run();
+            return scope.count();
+        }
+    }
+
+    public static <T> T assertStatementCount(int expected, Supplier<T> action) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            T result = action.get();
+            assertThat(scope.count()).as("SQL statements issued").isEqualTo(expected);
+            return result;
+        }
+    }
+
+    public static <T> T assertMaxStatements(int max, Supplier<T> action) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            T result = action.get();
+            assertThat(scope.count()).as("SQL statements issued").isLessThanOrEqualTo(max);
+            return result;
+        }
+    }
+}
@@ -1,4 +1,4 @@
-import React from "react";
+import React, { useEffect, useState } from "react";
 import { Link, useNavigate, useLocation } from "react-router-dom";
 import axios from "axios";
 import { toast } from "react-toastify";
@@ -7,6 +7,15 @@ import "react-toastify/dist/ReactToastify.css";
 const AdminNavbar = () => {
   const navigate = useNavigate();
   const location = useLocation();
+  const [pendingCount, setPendingCount] = useState(0);
+
+  // Cheap count query for the badge; refreshed on every navigation
+  useEffect(() => {
+    axios
+      .get("http://localhost:8080/api/admin/unapproved-faculties/count", { withCredentials: true })
+      .then((res) => setPendingCount(Number(res.data) || 0))
+      .catch(() => setPendingCount(0));
+  }, [location.pathname]);
 
   const handleLogout = async () => {
     try {
@@ -60,6 +69,11 @@ const AdminNavbar = () => {
               }`}
             >
               {link.label}
+              {link.to === "/admin/unapproved-faculties" && pendingCount > 0 && (
+                <span className="ml-1 inline-flex items-center justify-center min-w-[1.25rem] px-1.5 text-xs font-bold rounded-full bg-yellow-300 text-indigo-900">
+                  {pendingCount}
+                </span>
+              )}
               <span
                 className={`absolute left-0 bottom-0 h-0.5 bg-yellow-300 transition-all duration-300 ease-in-out ${
                   location.pathname === link.to ? "w-full" : "w-0 group-hover:w-full"
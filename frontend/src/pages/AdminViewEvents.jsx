@@ -13,6 +13,7 @@ const AdminViewEvents = () => {
   const [showPopup, setShowPopup] = useState(false);
   const [loading, setLoading] = useState(true);
   const [fetchingStudents, setFetchingStudents] = useState(false);
+  const [rosterEventId, setRosterEventId] = useState(null);
   const [editEvent, setEditEvent] = useState(null);
   const [showEditPopup, setShowEditPopup] = useState(false);
 
@@ -76,6 +77,7 @@ const AdminViewEvents = () => {
       setSelectedEventStudents(
         res.data.map((s) => ({ ...s, attendance: s.attendance ?? null }))
       );
+      setRosterEventId(eventId);
       setShowPopup(true);
     } catch (err) {
       handleSessionError(err);
@@ -84,6 +86,32 @@ const AdminViewEvents = () => {
     }
   };
 
+  // While the roster is open, apply registration and attendance changes as they happen
+  useEffect(() => {
+    if (!showPopup || rosterEventId == null) return undefined;
+    const source = new EventSource(
+      `http://localhost:8080/api/admin/events/${rosterEventId}/feed`,
+      { withCredentials: true }
+    );
+    const apply = (update) => (e) => {
+      const delta = JSON.parse(e.data);
+      setSelectedEventStudents((students) => update(students, delta));
+    };
+    source.addEventListener("registered", apply((students, d) => [
+      ...students.filter((s) => s.studentId !== d.student.studentId),
+      { ...d.student, attendance: d.student.attendance ?? null },
+    ]));
+    source.addEventListener("unregistered", apply((students, d) =>
+      students.filter((s) => !d.studentIds.includes(s.studentId))
+    ));
+    source.addEventListener("attendance", apply((students, d) =>
+      students.map((s) => (d.studentIds.includes(s.studentId) ? { ...s, attendance: d.attendance } : s))
+    ));
+    // We fell too far behind: take one fresh copy of the roster
+    source.addEventListener("resync", () => handleViewStudents(rosterEventId));
+    return () => source.close();
+  }, [showPopup, rosterEventId]);
+
   const handleEditEvent = (event) => {
   setEditEvent({
     ...event,
@@ -186,6 +214,13 @@ const AdminViewEvents = () => {
                     {fetchingStudents ? "Fetching Students..." : "View Students"}
                   </button>
 
+                  <a
+                    href={`http://localhost:8080/api/admin/events/${event.id}/attendance.csv`}
+                    className="w-full py-2 rounded-lg bg-blue-600 hover:bg-blue-700 text-white font-medium transition text-center"
+                  >
+                    Export Attendance (CSV)
+                  </a>
+
                   <button
                     onClick={() => handleEditEvent(event)}
                     className="w-full py-2 rounded-lg bg-green-600 hover:bg-green-700 text-white font-medium transition"
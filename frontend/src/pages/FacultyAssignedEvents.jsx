@@ -9,6 +9,7 @@ const FacultyAssignedEvents = () => {
   const [selectedEventStudents, setSelectedEventStudents] = useState([]);
   const [showPopup, setShowPopup] = useState(false);
   const [currentEvent, setCurrentEvent] = useState(null);
+  const [checkInCodes, setCheckInCodes] = useState({});
 
   useEffect(() => {
     axios
@@ -49,6 +50,20 @@ const FacultyAssignedEvents = () => {
     }
   };
 
+  // Signed code for students to check themselves in at the door; valid for a few minutes
+  const handleShowCheckInCode = async (event) => {
+    try {
+      const res = await axios.get(
+        `http://localhost:8080/api/faculty/events/${event.id}/check-in-token`,
+        { withCredentials: true }
+      );
+      setCheckInCodes((prev) => ({ ...prev, [event.id]: res.data }));
+    } catch (err) {
+      console.error("Error fetching check-in code", err);
+      alert("Failed to get a check-in code.");
+    }
+  };
+
   const handleMarkAttendance = async (studentId, present) => {
     try {
       await axios.post(
@@ -106,6 +121,20 @@ const FacultyAssignedEvents = () => {
                 >
                   View Registered Students
                 </button>
+                <button
+                  onClick={() => handleShowCheckInCode(event)}
+                  className="mt-2 w-full py-2 bg-green-600 hover:bg-green-700 text-white font-medium rounded-lg shadow"
+                >
+                  Show Check-in Code
+                </button>
+                {checkInCodes[event.id] && (
+                  <div className="mt-3 p-3 bg-gray-100 rounded-lg text-center">
+                    <p className="font-mono text-sm break-all">{checkInCodes[event.id].token}</p>
+                    <p className="text-xs text-gray-500 mt-1">
+                      Valid until {new Date(checkInCodes[event.id].expiresAt).toLocaleTimeString()}
+                    </p>
+                  </div>
+                )}
               </div>
             ))}
           </div>
@@ -11,7 +11,7 @@ const COLORS = ["#00C49F", "#FFBB28", "#FF8042"];
 const FacultyDashboard = () => {
   const [faculty, setFaculty] = useState(null);
   const [events, setEvents] = useState([]);
-  const [students, setStudents] = useState([]);
+  const [totals, setTotals] = useState({ registered: 0, present: 0, absent: 0, notMarked: 0 });
   const [loading, setLoading] = useState(true);
   const navigate = useNavigate();
 
@@ -29,20 +29,11 @@ const FacultyDashboard = () => {
         const assignedEvents = Array.isArray(eventsRes.data) ? eventsRes.data : [];
         setEvents(assignedEvents);
 
-        // Fetch all students for assigned events
-        let allStudents = [];
-        for (const event of assignedEvents) {
-          const stuRes = await axios.get(
-            `http://localhost:8080/api/faculty/events/${event.id}/students`,
-            { withCredentials: true }
-          );
-          const studentsWithEvent = stuRes.data.map((s) => ({
-            ...s,
-            attendance: s.attendance ?? null,
-          }));
-          allStudents = [...allStudents, ...studentsWithEvent];
-        }
-        setStudents(allStudents);
+        // Attendance totals across assigned events, kept up to date on the server
+        const analyticsRes = await axios.get("http://localhost:8080/api/faculty/analytics", {
+          withCredentials: true,
+        });
+        if (analyticsRes.data?.totals) setTotals(analyticsRes.data.totals);
 
         setLoading(false);
       } catch (err) {
@@ -62,12 +53,35 @@ const FacultyDashboard = () => {
     fetchData();
   }, [navigate]);
 
+  // Keep the totals current while other staff mark attendance
+  useEffect(() => {
+    const source = new EventSource("http://localhost:8080/api/faculty/feed", { withCredentials: true });
+    let pending = null;
+    const refresh = () => {
+      if (pending) return;
+      pending = setTimeout(async () => {
+        pending = null;
+        try {
+          const res = await axios.get("http://localhost:8080/api/faculty/analytics", { withCredentials: true });
+          if (res.data?.totals) setTotals(res.data.totals);
+        } catch (err) {
+          console.error(err);
+        }
+      }, 500);
+    };
+    ["registered", "unregistered", "attendance", "resync"].forEach((name) => source.addEventListener(name, refresh));
+    return () => {
+      clearTimeout(pending);
+      source.close();
+    };
+  }, []);
+
   if (loading) return <div className="p-6 text-center text-blue-600">Loading dashboard...</div>;
 
   // Attendance counts
-  const presentCount = students.filter((s) => s.attendance === true).length;
-  const absentCount = students.filter((s) => s.attendance === false).length;
-  const notMarkedCount = students.filter((s) => s.attendance === null).length;
+  const presentCount = totals.present;
+  const absentCount = totals.absent;
+  const notMarkedCount = totals.notMarked;
 
   const pieData = [
     { name: "Present", value: presentCount },
@@ -94,7 +108,7 @@ const FacultyDashboard = () => {
           </div>
           <div className="bg-gradient-to-r from-green-500 to-emerald-500 text-white p-6 rounded-2xl shadow-lg text-center">
             <h3 className="text-lg font-semibold">Total Students</h3>
-            <p className="text-3xl font-bold mt-2">{students.length}</p>
+            <p className="text-3xl font-bold mt-2">{totals.registered}</p>
           </div>
           <div className="bg-gradient-to-r from-yellow-400 to-orange-500 text-white p-6 rounded-2xl shadow-lg text-center">
             <h3 className="text-lg font-semibold">Present</h3>
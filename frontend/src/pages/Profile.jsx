@@ -54,27 +54,11 @@ const Profile = () => {
         );
         setTotalEvents(allEventsRes.data.length);
 
-        const regRes = await axios.get(
-          "http://localhost:8080/api/students/registered-events",
+        const summaryRes = await axios.get(
+          "http://localhost:8080/api/students/registered-events/summary",
           { withCredentials: true }
         );
-        const data = Array.isArray(regRes.data) ? regRes.data : [regRes.data];
-
-        const eventsWithAttendance = await Promise.all(
-          data.map(async (event) => {
-            try {
-              const attRes = await axios.get(
-                `http://localhost:8080/api/students/events/${event.id}/attendance`,
-                { withCredentials: true }
-              );
-              return { ...event, attendance: attRes.data ?? null };
-            } catch {
-              return { ...event, attendance: null };
-            }
-          })
-        );
-
-        setRegisteredEvents(eventsWithAttendance);
+        setRegisteredEvents(summaryRes.data?.events || []);
       } catch (err) {
         if (err.response?.status === 401) handleSessionExpired();
         else toast.error("Failed to load profile data.", { autoClose: 3000 });
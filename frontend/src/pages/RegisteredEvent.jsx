@@ -8,32 +8,17 @@ const RegisteredEvent = () => {
   const [events, setEvents] = useState([]);
   const [loading, setLoading] = useState(true);
   const [searchTerm, setSearchTerm] = useState("");
+  const [checkInCode, setCheckInCode] = useState("");
 
   useEffect(() => {
     const fetchRegisteredEvents = async () => {
       try {
-        const res = await axios.get("http://localhost:8080/api/students/registered-events", {
+        // events come back with their attendance already attached
+        const res = await axios.get("http://localhost:8080/api/students/registered-events/summary", {
           withCredentials: true,
         });
 
-        let data = Array.isArray(res.data) ? res.data : [res.data];
-
-        // fetch attendance for each event
-        const eventsWithAttendance = await Promise.all(
-          data.map(async (event) => {
-            try {
-              const attRes = await axios.get(
-                `http://localhost:8080/api/students/events/${event.id}/attendance`,
-                { withCredentials: true }
-              );
-              return { ...event, attendance: attRes.data };
-            } catch {
-              return { ...event, attendance: null };
-            }
-          })
-        );
-
-        setEvents(eventsWithAttendance);
+        setEvents(res.data?.events || []);
       } catch (err) {
         if (err.response?.status === 401) {
           toast.error("Session expired. Redirecting to login...", { autoClose: 3000 });
@@ -49,6 +34,21 @@ const RegisteredEvent = () => {
     fetchRegisteredEvents();
   }, []);
 
+  const handleCheckIn = async (e) => {
+    e.preventDefault();
+    try {
+      const res = await axios.post(
+        "http://localhost:8080/api/students/check-in",
+        { token: checkInCode.trim() },
+        { withCredentials: true }
+      );
+      toast.success(res.data);
+      setCheckInCode("");
+    } catch (err) {
+      toast.error(err.response?.data || "Check-in failed.");
+    }
+  };
+
   const filteredEvents = events.filter((event) =>
     event.name.toLowerCase().includes(searchTerm.toLowerCase())
   );
@@ -93,6 +93,23 @@ const RegisteredEvent = () => {
           </div>
         </div>
 
+        <form onSubmit={handleCheckIn} className="flex flex-col sm:flex-row gap-3 mb-6">
+          <input
+            type="text"
+            placeholder="Enter the check-in code shown at the event"
+            value={checkInCode}
+            className="flex-1 px-4 py-2 rounded-lg border focus:outline-none focus:ring-2 focus:ring-green-500"
+            onChange={(e) => setCheckInCode(e.target.value)}
+          />
+          <button
+            type="submit"
+            disabled={!checkInCode.trim()}
+            className="px-6 py-2 bg-green-600 hover:bg-green-700 disabled:opacity-50 text-white font-medium rounded-lg shadow"
+          >
+            Check in
+          </button>
+        </form>
+
         <input
           type="text"
           placeholder="Search events..."
@@ -20,34 +20,11 @@ const StudentDashboard = () => {
         const allEvents = Array.isArray(allEventsRes.data) ? allEventsRes.data : [];
         setTotalEvents(allEvents.length);
 
-        // Fetch registered events
-        const regEventsRes = await axios.get("http://localhost:8080/api/students/registered-events", { withCredentials: true });
-        const registeredEvents = Array.isArray(regEventsRes.data) ? regEventsRes.data : [regEventsRes.data];
-        setRegisteredEventsCount(registeredEvents.length);
-
-        // Fetch attendance for each registered event
-        const eventsWithAttendance = await Promise.all(
-          registeredEvents.map(async (event) => {
-            try {
-              const attRes = await axios.get(
-                `http://localhost:8080/api/students/events/${event.id}/attendance`,
-                { withCredentials: true }
-              );
-              return { ...event, attendance: attRes.data };
-            } catch {
-              return { ...event, attendance: null };
-            }
-          })
-        );
-
-        // Calculate attendance stats
-        const stats = { present: 0, absent: 0, notMarked: 0 };
-        eventsWithAttendance.forEach((event) => {
-          if (event.attendance === true) stats.present += 1;
-          else if (event.attendance === false) stats.absent += 1;
-          else stats.notMarked += 1;
-        });
-        setAttendanceStats(stats);
+        // Registered events with attendance totals, one request
+        const summaryRes = await axios.get("http://localhost:8080/api/students/registered-events/summary", { withCredentials: true });
+        const { events = [], present = 0, absent = 0, notMarked = 0 } = summaryRes.data || {};
+        setRegisteredEventsCount(events.length);
+        setAttendanceStats({ present, absent, notMarked });
       } catch (err) {
         if (err.response?.status === 401) {
           toast.error("Session expired. Please login again.", { autoClose: 3000 });
@@ -9,6 +9,7 @@ const StudentViewEvents = () => {
   const [registeredEvents, setRegisteredEvents] = useState([]);
   const [loading, setLoading] = useState(true);
   const [searchTerm, setSearchTerm] = useState("");
+  const [searchResults, setSearchResults] = useState(null);
 
   const fetchData = async () => {
     try {
@@ -34,6 +35,27 @@ const StudentViewEvents = () => {
     fetchData();
   }, []);
 
+  // Search runs on the server index; debounce so typing doesn't fire a request per keystroke
+  useEffect(() => {
+    const term = searchTerm.trim();
+    if (!term) {
+      setSearchResults(null);
+      return;
+    }
+    const timer = setTimeout(async () => {
+      try {
+        const res = await axios.get("http://localhost:8080/api/students/events/search", {
+          params: { q: term },
+          withCredentials: true,
+        });
+        setSearchResults(res.data);
+      } catch (err) {
+        toast.error("Search failed.", { autoClose: 3000 });
+      }
+    }, 250);
+    return () => clearTimeout(timer);
+  }, [searchTerm]);
+
   const handleRegister = async (eventId) => {
     try {
       await axios.post(`http://localhost:8080/api/students/register-event/${eventId}`, {}, { withCredentials: true });
@@ -59,14 +81,12 @@ const StudentViewEvents = () => {
         toast.error("Session expired. Redirecting to login...", { autoClose: 3000 });
         setTimeout(() => window.location.href = "/student/login", 3000);
       } else {
-        toast.error("Unregistration failed", { autoClose: 3000 });
+        toast.error(err.response?.data || "Unregistration failed", { autoClose: 3000 });
       }
     }
   };
 
-  const filteredEvents = events.filter(event =>
-    event.name.toLowerCase().includes(searchTerm.toLowerCase())
-  );
+  const filteredEvents = searchResults ?? events;
 
   return (
     <>